@@ -0,0 +1,98 @@
+/**
+ * @file escape.bench.js
+ * @brief Micro-benchmark do escape de HTML (src/js/views/renderers/Escape.js).
+ * @description Compara, no Node, o escapeHtml compartilhado com as abordagens que
+ *              ele substituiu:
+ *                - element:  document.createElement por chamada, textContent →
+ *                            innerHTML (o que os esc() por renderer faziam), sobre
+ *                            o DOM de bench/lib/dom-shim.js: cria o elemento e o nó
+ *                            de texto e serializa a árvore, mas não tem o custo de
+ *                            binding do DOM nativo — num navegador a diferença é maior
+ *                - callback: String.replace com função por ocorrência
+ *              Entradas: todos os textos de PORTFOLIO_DATA (maioria sem caractere
+ *              especial) e o mesmo conjunto com caracteres especiais injetados.
+ *
+ *              Uso: npm run bench:escape
+ */
+import { performance } from 'node:perf_hooks';
+import { PORTFOLIO_DATA } from '../src/js/data/PortfolioData.js';
+import { escapeHtml } from '../src/js/views/renderers/Escape.js';
+import { installDomShim } from './lib/dom-shim.js';
+
+installDomShim();
+
+const DURATION_MS = 400;
+
+/* ─── Implementações de referência ─── */
+function elementEscape(text) {
+    if (!text) return '';
+    const element = document.createElement('div');
+    element.textContent = text;
+    return element.innerHTML;
+}
+
+const ESCAPES = { '&': '&amp;', '<': '&lt;', '>': '&gt;', '"': '&quot;', "'": '&#39;' };
+const callbackEscape = text => String(text ?? '').replace(/[&<>"']/g, ch => ESCAPES[ch]);
+
+const IMPLEMENTATIONS = {
+    element:    elementEscape,
+    callback:   callbackEscape,
+    escapeHtml,
+};
+
+/* ─── Entradas ─── */
+function collectStrings(value, out = []) {
+    if (typeof value === 'string') out.push(value);
+    else if (Array.isArray(value)) value.forEach(v => collectStrings(v, out));
+    else if (value && typeof value === 'object') Object.values(value).forEach(v => collectStrings(v, out));
+    return out;
+}
+
+const plain = collectStrings(PORTFOLIO_DATA.sections);
+const special = plain.map((s, i) => `${s.slice(0, 20)} <b class="x">&${i}'</b> ${s.slice(20)}`);
+const DATASETS = { portfolio: plain, special };
+
+/* ─── Medição ─── */
+let sink = 0;
+
+function measure(fn, inputs) {
+    // Aquecimento para o JIT
+    for (let i = 0; i < 2000; i++) sink += fn(inputs[i % inputs.length]).length;
+
+    let calls = 0;
+    const start = performance.now();
+    let elapsed = 0;
+    while (elapsed < DURATION_MS) {
+        for (let i = 0; i < inputs.length; i++) sink += fn(inputs[i]).length;
+        calls += inputs.length;
+        elapsed = performance.now() - start;
+    }
+    return calls / (elapsed / 1000);
+}
+
+// Todas as implementações precisam concordar no que escapam em comum
+for (const input of special) {
+    if (elementEscape(input) !== escapeHtml(input).replace(/&quot;/g, '"').replace(/&#39;/g, "'")) {
+        throw new Error(`Resultado divergente para: ${input}`);
+    }
+}
+
+const rows = [];
+for (const [dataset, inputs] of Object.entries(DATASETS)) {
+    const baseline = measure(IMPLEMENTATIONS.element, inputs);
+    for (const [name, fn] of Object.entries(IMPLEMENTATIONS)) {
+        const opsPerSec = name === 'element' ? baseline : measure(fn, inputs);
+        rows.push({
+            dataset,
+            impl: name,
+            'ops/s': Math.round(opsPerSec).toLocaleString('en-US'),
+            'vs element': `${(opsPerSec / baseline).toFixed(2)}x`,
+        });
+    }
+}
+
+// Mantém os resultados vivos (evita eliminação de código morto)
+globalThis.benchSink = sink;
+
+console.log(`${plain.length} textos de PORTFOLIO_DATA, ${DURATION_MS} ms por medição`);
+console.table(rows);
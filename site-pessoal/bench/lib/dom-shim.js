@@ -0,0 +1,472 @@
+/**
+ * @file dom-shim.js
+ * @brief DOM mínimo para rodar ViewManager/Template.js no Node durante os benchmarks.
+ * @description Cobre só o que o código de views usa: parser de HTML bem-formado
+ *              (para <template>.innerHTML), árvore de nós com clone/insert/replace,
+ *              atributos, classList, dataset, querySelector(All)/matches/closest com
+ *              seletores compostos (tag, #id, .classe, [attr], [attr="v"], :scope,
+ *              combinadores descendente e ">"), e stubs de IntersectionObserver,
+ *              ResizeObserver, getComputedStyle e requestAnimationFrame.
+ *
+ *              Não mede layout nem pintura: os números servem para comparar
+ *              versões do código entre si, não para prever tempos de navegador.
+ */
+
+const VOID_ELEMENTS = new Set([
+    'area', 'base', 'br', 'col', 'embed', 'hr', 'img', 'input',
+    'link', 'meta', 'source', 'track', 'wbr',
+]);
+
+const ENTITIES = { amp: '&', lt: '<', gt: '>', quot: '"', apos: "'", nbsp: '\u00a0' };
+
+function decodeEntities(text) {
+    if (!text.includes('&')) return text;
+    return text.replace(/&(#x[0-9a-f]+|#\d+|[a-z]+);/gi, (match, code) => {
+        if (code[0] !== '#') return ENTITIES[code] ?? match;
+        return String.fromCodePoint(code[1] === 'x' || code[1] === 'X'
+            ? parseInt(code.slice(2), 16)
+            : parseInt(code.slice(1), 10));
+    });
+}
+
+const escapeText = text => text.replace(/&/g, '&amp;').replace(/</g, '&lt;').replace(/>/g, '&gt;');
+const escapeAttr = text => escapeText(text).replace(/"/g, '&quot;');
+
+/* ──────────────────────────────────────────
+   NÓS
+────────────────────────────────────────── */
+class ShimNode {
+    constructor(nodeType, nodeName) {
+        this.nodeType   = nodeType;
+        this.nodeName   = nodeName;
+        this.parentNode = null;
+        this.childNodes = [];
+    }
+
+    get parentElement() {
+        return this.parentNode?.nodeType === 1 ? this.parentNode : null;
+    }
+
+    get firstChild() { return this.childNodes[0] || null; }
+    get lastChild()  { return this.childNodes[this.childNodes.length - 1] || null; }
+
+    get nextSibling() {
+        const siblings = this.parentNode?.childNodes;
+        return siblings ? siblings[siblings.indexOf(this) + 1] || null : null;
+    }
+
+    get children()          { return this.childNodes.filter(n => n.nodeType === 1); }
+    get firstElementChild() { return this.childNodes.find(n => n.nodeType === 1) || null; }
+
+    get nextElementSibling() {
+        const siblings = this.parentNode?.childNodes;
+        if (!siblings) return null;
+        for (let i = siblings.indexOf(this) + 1; i < siblings.length; i++) {
+            if (siblings[i].nodeType === 1) return siblings[i];
+        }
+        return null;
+    }
+
+    get textContent() {
+        return this.childNodes.map(n => n.textContent).join('');
+    }
+
+    set textContent(value) {
+        this.replaceChildren();
+        if (value !== '' && value !== null && value !== undefined) {
+            this.appendChild(new ShimText(String(value)));
+        }
+    }
+
+    /** Nós a inserir: fragmentos são esvaziados, nós com pai são removidos dele */
+    _adopt(node) {
+        if (node.nodeType === 11) {
+            const nodes = node.childNodes;
+            node.childNodes = [];
+            nodes.forEach(child => (child.parentNode = null));
+            return nodes;
+        }
+        node.parentNode?.removeChild(node);
+        return [node];
+    }
+
+    appendChild(node) {
+        this._adopt(node).forEach(child => {
+            child.parentNode = this;
+            this.childNodes.push(child);
+        });
+        return node;
+    }
+
+    insertBefore(node, reference) {
+        if (!reference) return this.appendChild(node);
+        if (node === reference) return node;
+        const nodes = this._adopt(node);
+        const idx = this.childNodes.indexOf(reference);
+        nodes.forEach(child => (child.parentNode = this));
+        this.childNodes.splice(idx, 0, ...nodes);
+        return node;
+    }
+
+    removeChild(node) {
+        const idx = this.childNodes.indexOf(node);
+        if (idx !== -1) this.childNodes.splice(idx, 1);
+        node.parentNode = null;
+        return node;
+    }
+
+    remove() {
+        this.parentNode?.removeChild(this);
+    }
+
+    append(...nodes) {
+        nodes.forEach(node => this.appendChild(typeof node === 'string' ? new ShimText(node) : node));
+    }
+
+    replaceChildren(...nodes) {
+        this.childNodes.forEach(child => (child.parentNode = null));
+        this.childNodes = [];
+        this.append(...nodes);
+    }
+
+    replaceWith(...nodes) {
+        const parent = this.parentNode;
+        if (!parent) return;
+        nodes.forEach(node => parent.insertBefore(
+            typeof node === 'string' ? new ShimText(node) : node, this));
+        this.remove();
+    }
+
+    cloneNode(deep = false) {
+        const clone = this._shallowClone();
+        if (deep) this.childNodes.forEach(child => clone.appendChild(child.cloneNode(true)));
+        return clone;
+    }
+
+    contains(node) {
+        for (let n = node; n; n = n.parentNode) if (n === this) return true;
+        return false;
+    }
+
+    /* Consulta */
+    querySelectorAll(selector) {
+        const compiled = parseSelector(selector);
+        const out = [];
+        const walk = node => node.childNodes.forEach(child => {
+            if (child.nodeType !== 1) return;
+            if (matchesSelector(child, compiled, this)) out.push(child);
+            walk(child);
+        });
+        walk(this);
+        return out;
+    }
+
+    querySelector(selector) {
+        return this.querySelectorAll(selector)[0] || null;
+    }
+
+    getElementById(id) {
+        return this.querySelector(`[id="${id}"]`);
+    }
+}
+
+class ShimText extends ShimNode {
+    constructor(data) {
+        super(3, '#text');
+        this.data = data;
+    }
+
+    get nodeValue()        { return this.data; }
+    set nodeValue(value)   { this.data = String(value); }
+    get textContent()      { return this.data; }
+    set textContent(value) { this.data = String(value); }
+    _shallowClone()        { return new ShimText(this.data); }
+}
+
+class ShimComment extends ShimNode {
+    constructor(data) {
+        super(8, '#comment');
+        this.data = data;
+    }
+
+    get nodeValue()   { return this.data; }
+    get textContent() { return ''; }
+    _shallowClone()   { return new ShimComment(this.data); }
+}
+
+class ShimFragment extends ShimNode {
+    constructor() {
+        super(11, '#document-fragment');
+    }
+
+    _shallowClone() { return new ShimFragment(); }
+}
+
+const toDataAttr = prop => 'data-' + prop.replace(/[A-Z]/g, ch => '-' + ch.toLowerCase());
+
+class ShimElement extends ShimNode {
+    constructor(tagName) {
+        super(1, tagName.toUpperCase());
+        this.localName = tagName.toLowerCase();
+        this.tagName   = this.nodeName;
+        this._attrs    = new Map();
+        this.style     = {};
+        if (this.localName === 'template') this.content = new ShimFragment();
+    }
+
+    _shallowClone() {
+        const clone = new ShimElement(this.localName);
+        this._attrs.forEach((value, name) => clone._attrs.set(name, value));
+        Object.assign(clone.style, this.style);
+        if (this.content) clone.content = this.content.cloneNode(true);
+        return clone;
+    }
+
+    /* Atributos */
+    get attributes() {
+        return [...this._attrs].map(([name, value]) => ({ name, value }));
+    }
+
+    getAttribute(name)        { return this._attrs.get(name.toLowerCase()) ?? null; }
+    setAttribute(name, value) { this._attrs.set(name.toLowerCase(), String(value)); }
+    removeAttribute(name)     { this._attrs.delete(name.toLowerCase()); }
+    hasAttribute(name)        { return this._attrs.has(name.toLowerCase()); }
+
+    get id()             { return this.getAttribute('id') || ''; }
+    set id(value)        { this.setAttribute('id', value); }
+    get className()      { return this.getAttribute('class') || ''; }
+    set className(value) { this.setAttribute('class', value); }
+
+    get hidden()         { return this.hasAttribute('hidden'); }
+    set hidden(value)    { value ? this.setAttribute('hidden', '') : this.removeAttribute('hidden'); }
+
+    get classList() {
+        const element = this;
+        const read = () => element.className.split(/\s+/).filter(Boolean);
+        const write = list => (element.className = list.join(' '));
+        return {
+            contains: name => read().includes(name),
+            add: (...names) => write([...new Set([...read(), ...names])]),
+            remove: (...names) => write(read().filter(c => !names.includes(c))),
+            toggle: (name, force) => {
+                const on = force ?? !read().includes(name);
+                on ? this.classList.add(name) : this.classList.remove(name);
+                return on;
+            },
+        };
+    }
+
+    get dataset() {
+        const element = this;
+        return new Proxy({}, {
+            get: (_, prop) => element.getAttribute(toDataAttr(prop)) ?? undefined,
+            set: (_, prop, value) => (element.setAttribute(toDataAttr(prop), value), true),
+            has: (_, prop) => element.hasAttribute(toDataAttr(prop)),
+            deleteProperty: (_, prop) => (element.removeAttribute(toDataAttr(prop)), true),
+        });
+    }
+
+    /* HTML */
+    get innerHTML() {
+        return (this.content || this).childNodes.map(serialize).join('');
+    }
+
+    set innerHTML(markup) {
+        const target = this.content || this;
+        target.replaceChildren(parseHTML(String(markup)));
+    }
+
+    get outerHTML() {
+        return serialize(this);
+    }
+
+    insertAdjacentHTML(position, markup) {
+        const fragment = parseHTML(markup);
+        if (position === 'beforeend') this.appendChild(fragment);
+        else if (position === 'afterbegin') this.insertBefore(fragment, this.firstChild);
+        else throw new Error(`dom-shim: insertAdjacentHTML("${position}") não suportado`);
+    }
+
+    /* Seletores */
+    matches(selector) {
+        return matchesSelector(this, parseSelector(selector), null);
+    }
+
+    closest(selector) {
+        const compiled = parseSelector(selector);
+        for (let el = this; el; el = el.parentElement) {
+            if (matchesSelector(el, compiled, null)) return el;
+        }
+        return null;
+    }
+
+    getBoundingClientRect() {
+        return { top: 0, left: 0, right: 0, bottom: 0, width: 0, height: 0 };
+    }
+}
+
+/* ──────────────────────────────────────────
+   PARSER / SERIALIZADOR
+────────────────────────────────────────── */
+const TOKEN = /<!--([\s\S]*?)-->|<\/([a-zA-Z][\w-]*)\s*>|<([a-zA-Z][\w-]*)((?:\s+[^\s"'>\/=]+(?:\s*=\s*(?:"[^"]*"|'[^']*'|[^\s>]+))?)*)\s*\/?>|([^<]+|<)/g;
+const ATTRIBUTE = /([^\s"'>\/=]+)(?:\s*=\s*(?:"([^"]*)"|'([^']*)'|([^\s>]+)))?/g;
+
+/** Parser para HTML bem-formado (o markup gerado pelos renderers) */
+function parseHTML(markup) {
+    const root = new ShimFragment();
+    const stack = [root];
+    const current = () => {
+        const top = stack[stack.length - 1];
+        return top.content || top;
+    };
+
+    for (const [, comment, closing, opening, attrs, text] of markup.matchAll(TOKEN)) {
+        if (comment !== undefined) {
+            current().appendChild(new ShimComment(comment));
+        } else if (closing) {
+            const name = closing.toLowerCase();
+            const idx = stack.findLastIndex(node => node.localName === name);
+            if (idx > 0) stack.length = idx;
+        } else if (opening) {
+            const element = new ShimElement(opening);
+            for (const [, name, dq, sq, bare] of (attrs || '').matchAll(ATTRIBUTE)) {
+                element.setAttribute(name, decodeEntities(dq ?? sq ?? bare ?? ''));
+            }
+            current().appendChild(element);
+            if (!VOID_ELEMENTS.has(element.localName)) stack.push(element);
+        } else if (text) {
+            current().appendChild(new ShimText(decodeEntities(text)));
+        }
+    }
+    return root;
+}
+
+function serialize(node) {
+    switch (node.nodeType) {
+        case 3: return escapeText(node.data);
+        case 8: return `<!--${node.data}-->`;
+        case 11: return node.childNodes.map(serialize).join('');
+        default: {
+            const attrs = node.attributes.map(({ name, value }) => ` ${name}="${escapeAttr(value)}"`).join('');
+            if (VOID_ELEMENTS.has(node.localName)) return `<${node.localName}${attrs}>`;
+            return `<${node.localName}${attrs}>${node.innerHTML}</${node.localName}>`;
+        }
+    }
+}
+
+/* ──────────────────────────────────────────
+   SELETORES
+────────────────────────────────────────── */
+const selectorCache = new Map();
+const SIMPLE = /:scope|\*|#[\w-]+|\.[\w-]+|\[([\w-]+)(?:=(?:"([^"]*)"|'([^']*)'|([^\]]*)))?\]|[a-zA-Z][\w-]*/g;
+
+function parseCompound(text) {
+    const tests = [];
+    for (const match of text.matchAll(SIMPLE)) {
+        const [token, attr, dq, sq, bare] = match;
+        if (token === ':scope') tests.push((el, scope) => el === scope);
+        else if (token === '*') continue;
+        else if (token[0] === '#') tests.push(el => el.id === token.slice(1));
+        else if (token[0] === '.') tests.push(el => el.classList.contains(token.slice(1)));
+        else if (token[0] === '[') {
+            const expected = dq ?? sq ?? bare;
+            tests.push(expected === undefined
+                ? el => el.hasAttribute(attr)
+                : el => el.getAttribute(attr) === expected);
+        } else {
+            const tag = token.toLowerCase();
+            tests.push(el => el.localName === tag);
+        }
+    }
+    return (el, scope) => tests.every(test => test(el, scope));
+}
+
+/** Seletor → lista (vírgula) de cadeias [{ test, combinator }] da direita para a esquerda */
+function parseSelector(selector) {
+    let compiled = selectorCache.get(selector);
+    if (compiled) return compiled;
+
+    compiled = selector.split(',').map(part => {
+        const tokens = part.trim().replace(/\s*>\s*/g, ' > ').split(/\s+/);
+        const chain = [];
+        let combinator = ' ';
+        for (let i = tokens.length - 1; i >= 0; i--) {
+            if (tokens[i] === '>') { combinator = '>'; continue; }
+            chain.push({ test: parseCompound(tokens[i]), combinator });
+            combinator = ' ';
+        }
+        // combinator de cada elo = relação com o elo seguinte (à esquerda)
+        for (let i = 0; i < chain.length - 1; i++) chain[i].combinator = chain[i + 1].combinator;
+        return chain;
+    });
+    selectorCache.set(selector, compiled);
+    return compiled;
+}
+
+function matchChain(el, chain, idx, scope) {
+    if (!chain[idx].test(el, scope)) return false;
+    if (idx === chain.length - 1) return true;
+
+    if (chain[idx].combinator === '>') {
+        const parent = el.parentElement;
+        return !!parent && matchChain(parent, chain, idx + 1, scope);
+    }
+    for (let ancestor = el.parentElement; ancestor; ancestor = ancestor.parentElement) {
+        if (matchChain(ancestor, chain, idx + 1, scope)) return true;
+    }
+    return false;
+}
+
+function matchesSelector(el, compiled, scope) {
+    return compiled.some(chain => matchChain(el, chain, 0, scope));
+}
+
+/* ──────────────────────────────────────────
+   INSTALAÇÃO
+────────────────────────────────────────── */
+class NoopObserver {
+    observe() {}
+    unobserve() {}
+    disconnect() {}
+}
+
+/**
+ * Instala document/window e globais relacionados em globalThis.
+ * @param {Object} [options]
+ * @param {number} [options.innerHeight=900]
+ * @returns {{document: Object, reset: Function}} reset() esvazia o body
+ */
+export function installDomShim({ innerHeight = 900 } = {}) {
+    const body = new ShimElement('body');
+    const document = {
+        body,
+        documentElement: new ShimElement('html'),
+        createElement:          tag => new ShimElement(tag),
+        createTextNode:         data => new ShimText(String(data)),
+        createComment:          data => new ShimComment(String(data)),
+        createDocumentFragment: () => new ShimFragment(),
+        getElementById:         id => body.getElementById(id),
+        querySelector:          selector => body.querySelector(selector),
+        querySelectorAll:       selector => body.querySelectorAll(selector),
+    };
+
+    Object.assign(globalThis, {
+        document,
+        window: {
+            document,
+            innerHeight,
+            location: { hash: '' },
+            addEventListener() {},
+            removeEventListener() {},
+        },
+        Node: { ELEMENT_NODE: 1, TEXT_NODE: 3, COMMENT_NODE: 8, DOCUMENT_FRAGMENT_NODE: 11 },
+        IntersectionObserver: NoopObserver,
+        ResizeObserver:       NoopObserver,
+        CSS: { escape: value => String(value).replace(/["\\]/g, '\\$&') },
+        getComputedStyle: () => ({ gridTemplateColumns: '1fr 1fr 1fr', rowGap: '0px' }),
+        requestAnimationFrame: callback => setTimeout(callback, 0),
+        cancelAnimationFrame:  id => clearTimeout(id),
+    });
+
+    return { document, reset: () => body.replaceChildren() };
+}
@@ -0,0 +1,95 @@
+/**
+ * @file fixtures.js
+ * @brief Portfólios sintéticos no formato de PORTFOLIO_DATA para os benchmarks.
+ * @description Geração determinística (mesmo tamanho → mesmos dados), com textos de
+ *              comprimento parecido com os reais e alguns caracteres que exigem
+ *              escape, para que os números sejam comparáveis entre execuções.
+ */
+
+const WORDS = ('pesquisa inovação física dados ensino extensão análise modelo rede ' +
+    'astrofísica protótipo patente software galáxia laboratório <maker> & código').split(' ');
+const ICONS = ['university', 'teacher', 'graduate', 'code', 'rocket', 'cogs', 'globe', 'award'];
+const STATUSES = ['Em produção', 'Publicado', 'Em registro', 'Pesquisa', 'Concluído'];
+
+/** Texto determinístico de `count` palavras a partir de `seed` */
+function words(seed, count) {
+    let out = '';
+    for (let i = 0; i < count; i++) out += (i ? ' ' : '') + WORDS[(seed * 7 + i * 13) % WORDS.length];
+    return out;
+}
+
+const links = (seed, count) => Array.from({ length: count }, (_, i) => ({
+    url:   `https://example.org/${seed}/${i}?a=1&b=2`,
+    label: words(seed + i, 2),
+}));
+
+/** Geradores de content por tipo: n = nº de itens da seção */
+export const CONTENT_GENERATORS = {
+    timeline: n => ({
+        timeline: Array.from({ length: n }, (_, i) => ({
+            period:      `${2000 + (i % 25)}–${2001 + (i % 25)}`,
+            title:       `${words(i, 4)} #${i}`,
+            description: words(i + 1, 28),
+            icon:        ICONS[i % ICONS.length],
+            highlights:  Array.from({ length: 3 }, (_, h) => words(i + h, 2)),
+        })),
+    }),
+
+    metrics: n => Array.from({ length: n }, (_, i) => ({
+        icon:  ICONS[i % ICONS.length],
+        value: `${(i * 37) % 1000}+`,
+        label: `${words(i, 3)} #${i}`,
+    })),
+
+    cards: n => Array.from({ length: n }, (_, i) => ({
+        title:       `${words(i, 5)} #${i}`,
+        description: words(i + 2, 30),
+        date:        `${2010 + (i % 15)}`,
+        status:      STATUSES[i % STATUSES.length],
+        highlight:   i % 5 === 0 ? words(i, 2) : undefined,
+        tags:        Array.from({ length: 4 }, (_, t) => words(i + t, 1)),
+        links:       links(i, i % 3),
+    })),
+
+    // n skills, em categorias de 10
+    skills: n => Array.from({ length: Math.ceil(n / 10) }, (_, c) => ({
+        category: `${words(c, 2)} #${c}`,
+        skills: Array.from({ length: Math.min(10, n - c * 10) }, (_, s) => ({
+            name:        `${words(c + s, 2)} #${s}`,
+            proficiency: s % 4 === 3 ? undefined : (c * 10 + s * 9) % 101,
+            description: words(c + s, 16),
+            links:       links(c + s, s % 2),
+        })),
+    })),
+
+    gallery: n => Array.from({ length: n }, (_, i) => (i === 0
+        ? { imageUrl: './images/featured.jpg', caption: words(i, 4), description: words(i, 20), links: links(i, 2) }
+        : { imageUrl: `./images/item-${i}.jpg`, caption: `${words(i, 3)} #${i}` })),
+};
+
+export const SECTION_TYPES = Object.keys(CONTENT_GENERATORS);
+
+/**
+ * @param {string} type
+ * @param {number} n
+ * @param {number} [order=1]
+ * @returns {Object} Seção no formato de PORTFOLIO_DATA.sections[]
+ */
+export function generateSection(type, n, order = 1) {
+    return {
+        id:       `${type}-${n}`,
+        type,
+        title:    `${type} (${n})`,
+        subtitle: words(order, 6),
+        metadata: { order, visible: true },
+        content:  CONTENT_GENERATORS[type](n),
+    };
+}
+
+/**
+ * @param {number} n - Itens por seção
+ * @returns {{sections: Array}} Uma seção de cada tipo
+ */
+export function generatePortfolio(n) {
+    return { sections: SECTION_TYPES.map((type, idx) => generateSection(type, n, idx + 1)) };
+}
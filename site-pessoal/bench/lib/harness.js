@@ -0,0 +1,74 @@
+/**
+ * @file harness.js
+ * @brief Medição de casos de benchmark: ops/s, p50/p99 e delta de heap.
+ * @description Cada caso roda até `minTime` ms e pelo menos `minSamples` vezes
+ *              (limitado a `maxSamples`), depois de `warmup` execuções. Com
+ *              `node --expose-gc` o heap é medido após coleta, antes e depois
+ *              das amostras; sem a flag o delta fica null.
+ */
+import { performance } from 'node:perf_hooks';
+
+const DEFAULTS = { warmup: 3, minSamples: 10, maxSamples: 500, minTime: 500 };
+
+const gc = typeof globalThis.gc === 'function' ? globalThis.gc : null;
+
+function percentile(sorted, p) {
+    const idx = Math.min(sorted.length - 1, Math.ceil((p / 100) * sorted.length) - 1);
+    return sorted[Math.max(0, idx)];
+}
+
+const round = (value, digits = 3) => Number(value.toFixed(digits));
+
+/**
+ * @param {Function} fn - Caso medido (sync ou async)
+ * @param {Object} [options] - Ver DEFAULTS
+ * @returns {Promise<{samples, opsPerSec, meanMs, p50Ms, p99Ms, heapDeltaKB}>}
+ */
+export async function measure(fn, options = {}) {
+    const { warmup, minSamples, maxSamples, minTime } = { ...DEFAULTS, ...options };
+
+    for (let i = 0; i < warmup; i++) await fn();
+
+    gc?.();
+    const heapBefore = process.memoryUsage().heapUsed;
+
+    const times = [];
+    const startedAt = performance.now();
+    while (times.length < maxSamples &&
+           (times.length < minSamples || performance.now() - startedAt < minTime)) {
+        const t0 = performance.now();
+        await fn();
+        times.push(performance.now() - t0);
+    }
+
+    gc?.();
+    const heapDelta = gc ? process.memoryUsage().heapUsed - heapBefore : null;
+
+    const sorted = [...times].sort((a, b) => a - b);
+    const total = times.reduce((a, b) => a + b, 0);
+    return {
+        samples:     times.length,
+        opsPerSec:   round(times.length / (total / 1000), 1),
+        meanMs:      round(total / times.length),
+        p50Ms:       round(percentile(sorted, 50)),
+        p99Ms:       round(percentile(sorted, 99)),
+        heapDeltaKB: heapDelta === null ? null : round(heapDelta / 1024, 1),
+    };
+}
+
+/**
+ * Compara com resultados anteriores (mesmo nome de caso).
+ * @param {Array} current
+ * @param {Array} previous
+ * @returns {Array} Linhas com variação de p50 em %
+ */
+export function compare(current, previous = []) {
+    const before = new Map(previous.map(r => [r.name, r]));
+    return current.map(r => {
+        const old = before.get(r.name);
+        return {
+            ...r,
+            p50Change: old ? `${((r.p50Ms / old.p50Ms - 1) * 100).toFixed(1)}%` : 'novo',
+        };
+    });
+}
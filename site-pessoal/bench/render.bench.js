@@ -0,0 +1,156 @@
+/**
+ * @file render.bench.js
+ * @brief Benchmarks de renderização com portfólios sintéticos (10 a 10 000 itens).
+ * @description Roda offline no Node, com o DOM mínimo de lib/dom-shim.js:
+ *                - render<Tipo>/n:        renderer puro + renderToString (caminho do prerender)
+ *                - ViewManager.renderSection/<tipo>/n: template clonado no DOM + ativação
+ *                - MainController.renderAllSections/n: hidratação completa, uma seção de cada tipo
+ *              Resultados em bench/results/render.json (versionado: a variação de p50
+ *              em relação ao arquivo anterior aparece no terminal e no diff do PR).
+ *
+ *              Uso: npm run bench [-- --sizes=10,100 --filter=cards --out=arquivo.json]
+ */
+import { readFileSync, writeFileSync, mkdirSync } from 'node:fs';
+import { dirname, resolve } from 'node:path';
+import { fileURLToPath } from 'node:url';
+import os from 'node:os';
+
+import { installDomShim } from './lib/dom-shim.js';
+import { generatePortfolio, generateSection, SECTION_TYPES } from './lib/fixtures.js';
+import { measure, compare } from './lib/harness.js';
+
+const { document, reset } = installDomShim();
+
+// Importados depois do shim: os módulos de views leem globais do DOM
+const { SECTION_DEFINITIONS, renderToString } = await import('../src/js/views/renderers/index.js');
+const { ViewManager } = await import('../src/js/views/ViewManager.js');
+const { MainController } = await import('../src/js/controllers/MainController.js');
+const { ContentModel } = await import('../src/js/models/ContentModel.js');
+const { EventBus } = await import('../src/js/core/EventBus.js');
+
+const HERE = dirname(fileURLToPath(import.meta.url));
+
+/* ─── Argumentos ─── */
+const args = Object.fromEntries(process.argv.slice(2)
+    .filter(arg => arg.startsWith('--'))
+    .map(arg => arg.slice(2).split('=')));
+
+const SIZES  = (args.sizes || '10,100,1000,10000').split(',').map(Number);
+const FILTER = args.filter || '';
+const OUT    = resolve(args.out || resolve(HERE, 'results/render.json'));
+
+/** Tamanhos grandes: menos amostras para a suíte caber em poucos minutos */
+const optionsFor = n => (n >= 10000 ? { warmup: 1, minSamples: 3, minTime: 0 }
+    : n >= 1000 ? { warmup: 2, minSamples: 5, minTime: 300 }
+    : {});
+
+const RENDERER_NAMES = {
+    timeline: 'renderTimeline',
+    metrics:  'renderMetrics',
+    cards:    'renderCards',
+    skills:   'renderSkills',
+    gallery:  'renderGallery',
+};
+
+/* ─── Casos ─── */
+function createContainer() {
+    reset();
+    const container = document.createElement('div');
+    container.id = 'sections-container';
+    document.body.appendChild(container);
+    return container;
+}
+
+const cases = [];
+
+for (const n of SIZES) {
+    for (const type of SECTION_TYPES) {
+        const section = generateSection(type, n);
+        const { render } = SECTION_DEFINITIONS[type];
+
+        cases.push({
+            name: `${RENDERER_NAMES[type]}/${n}`,
+            size: n,
+            run: () => measure(() => renderToString(render(section.content)), optionsFor(n)),
+        });
+
+        cases.push({
+            name: `ViewManager.renderSection/${type}/${n}`,
+            size: n,
+            run: async () => {
+                const container = createContainer();
+                const viewManager = new ViewManager({ container, eventBus: new EventBus() });
+                try {
+                    return await measure(async () => {
+                        container.replaceChildren();
+                        await viewManager.renderSection(section);
+                    }, optionsFor(n));
+                } finally {
+                    viewManager.destroy();
+                }
+            },
+        });
+    }
+
+    cases.push({
+        name: `MainController.renderAllSections/${n}`,
+        size: n,
+        run: async () => {
+            const container = createContainer();
+            const contentModel = new ContentModel();
+            contentModel.sections = generatePortfolio(n).sections;
+            contentModel.isInitialized = true;
+
+            const controller = new MainController({ contentModel, eventBus: new EventBus() });
+            await controller.init();
+            await controller.renderPromise;
+            try {
+                // Container vazio a cada amostra: mede renderização, não adoção por checksum
+                return await measure(async () => {
+                    container.replaceChildren();
+                    await controller.renderAllSections();
+                }, optionsFor(n));
+            } finally {
+                controller.viewManager.destroy();
+                controller.destroy();
+            }
+        },
+    });
+}
+
+/* ─── Execução ─── */
+let previous = [];
+try {
+    previous = JSON.parse(readFileSync(OUT, 'utf8')).results;
+} catch { /* primeira execução */ }
+
+// Logs de inicialização/renderização poluem a saída
+console.info = () => {};
+
+const results = [];
+for (const benchCase of cases) {
+    if (FILTER && !benchCase.name.includes(FILTER)) continue;
+    const stats = await benchCase.run();
+    results.push({ name: benchCase.name, size: benchCase.size, ...stats });
+    process.stdout.write(`  ${benchCase.name.padEnd(44)} ${String(stats.p50Ms).padStart(10)} ms p50\n`);
+}
+
+console.table(compare(results, previous).map(({ name, opsPerSec, p50Ms, p99Ms, heapDeltaKB, p50Change }) =>
+    ({ name, 'ops/s': opsPerSec, 'p50 ms': p50Ms, 'p99 ms': p99Ms, 'heap Δ KB': heapDeltaKB, 'Δ p50': p50Change })));
+
+mkdirSync(dirname(OUT), { recursive: true });
+writeFileSync(OUT, JSON.stringify({
+    meta: {
+        date:     new Date().toISOString(),
+        node:     process.version,
+        platform: `${os.platform()} ${os.arch()}`,
+        cpu:      os.cpus()[0]?.model || 'unknown',
+        gc:       typeof globalThis.gc === 'function',
+        sizes:    SIZES,
+    },
+    results,
+}, null, 2) + '\n');
+console.log(`\nResultados gravados em ${OUT}`);
+
+// O MessageChannel do Scheduler mantém o event loop vivo
+process.exit(0);
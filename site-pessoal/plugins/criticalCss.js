@@ -0,0 +1,457 @@
+/**
+ * @file criticalCss.js
+ * @brief Plugin Vite — extrai e inlina o CSS crítico (hero + navegação) no build.
+ * @description Depois do Vite gerar a folha final (styles.css com os @import já
+ *              concatenados), monta uma árvore de elementos com o que aparece no primeiro
+ *              viewport — o HTML estático do hero/overlay e a navegação renderizada pela
+ *              própria NavigationView — e mantém só as regras cujo seletor casa com algum
+ *              desses elementos (ou com seus ancestrais: html, body, containers).
+ *
+ *              O resultado vai num <style data-critical> no lugar do <link>; a folha
+ *              completa passa a carregar sem bloquear (preload + troca para stylesheet no
+ *              onload, com <noscript> de fallback).
+ *
+ *              O casamento é conservador: pseudo-classes de estado/estruturais (:hover,
+ *              :nth-child, :not…) contam como satisfeitas, e as classes aplicadas em
+ *              runtime antes do primeiro paint (tema no <html>, acessibilidade no <body>,
+ *              .scrolled da navegação) são consideradas presentes. Na dúvida a regra entra.
+ *
+ *              As folhas de tema (plugins/themeStylesheets.js) ficam fora do bundle, mas
+ *              suas regras também são consideradas: o primeiro viewport já sai tematizado.
+ *
+ *              Substitui o antigo src/css/critical.css, mantido à mão e nunca linkado.
+ */
+import { NavigationView } from '../src/js/views/NavigationView.js';
+import { ContentModel } from '../src/js/models/ContentModel.js';
+
+const DEFAULTS = {
+    // Elementos do primeiro viewport presentes no index.html
+    roots: ['loading-overlay', 'hero-section'],
+    // Classes que o JS aplica antes (ou logo depois) do primeiro paint
+    runtimeClasses: {
+        html: ['light', 'dark', 'high-contrast', 'reduced-motion'],
+        'main-navigation-container': ['scrolled'],
+        'nav-link': ['active'],
+    },
+};
+
+/* ──────────────────────────────────────────
+   HTML → árvore de elementos
+────────────────────────────────────────── */
+const VOID_ELEMENTS = new Set(['area', 'base', 'br', 'col', 'embed', 'hr', 'img', 'input',
+    'link', 'meta', 'source', 'track', 'wbr']);
+const RAW_TEXT = new Set(['script', 'style', 'textarea', 'title']);
+
+const TAG_PATTERN  = /<!--[\s\S]*?-->|<(\/?)([a-zA-Z][\w:-]*)((?:\s+[^\s=>/]+(?:\s*=\s*(?:"[^"]*"|'[^']*'|[^\s>]+))?)*)\s*(\/?)>/g;
+const ATTR_PATTERN = /([^\s=>/]+)(?:\s*=\s*(?:"([^"]*)"|'([^']*)'|([^\s>]+)))?/g;
+
+function createElement(tag, attrs, parent) {
+    const element = {
+        tag,
+        attrs,
+        id: attrs.id || '',
+        classes: new Set((attrs.class || '').split(/\s+/).filter(Boolean)),
+        parent,
+        children: [],
+    };
+    parent?.children.push(element);
+    return element;
+}
+
+/** @returns {Object} Raiz sintética (#document) com os elementos do HTML */
+function parseHtml(html) {
+    const root = createElement('#document', {}, null);
+    let current = root;
+
+    TAG_PATTERN.lastIndex = 0;
+    let match;
+    while ((match = TAG_PATTERN.exec(html))) {
+        const [token, closing, rawTag, rawAttrs, selfClosing] = match;
+        if (token.startsWith('<!--')) continue;
+        const tag = rawTag.toLowerCase();
+
+        if (closing) {
+            // Fecha até o elemento correspondente (tolera tags não fechadas)
+            let node = current;
+            while (node !== root && node.tag !== tag) node = node.parent;
+            if (node !== root) current = node.parent;
+            continue;
+        }
+
+        const attrs = {};
+        for (const [, name, dq, sq, bare] of rawAttrs.matchAll(ATTR_PATTERN)) {
+            attrs[name.toLowerCase()] = dq ?? sq ?? bare ?? '';
+        }
+        const element = createElement(tag, attrs, current);
+
+        if (RAW_TEXT.has(tag)) {
+            const end = html.indexOf(`</${tag}`, TAG_PATTERN.lastIndex);
+            TAG_PATTERN.lastIndex = end === -1 ? html.length : end;
+            current = element;
+        } else if (!VOID_ELEMENTS.has(tag) && !selfClosing) {
+            current = element;
+        }
+    }
+    return root;
+}
+
+function findById(node, id) {
+    if (node.id === id) return node;
+    for (const child of node.children) {
+        const found = findById(child, id);
+        if (found) return found;
+    }
+    return null;
+}
+
+function findByTag(node, tag) {
+    if (node.tag === tag) return node;
+    for (const child of node.children) {
+        const found = findByTag(child, tag);
+        if (found) return found;
+    }
+    return null;
+}
+
+/** Raízes + descendentes + ancestrais */
+function collectCritical(roots) {
+    const elements = new Set();
+    const addTree = (node) => {
+        elements.add(node);
+        node.children.forEach(addTree);
+    };
+    roots.forEach((root) => {
+        addTree(root);
+        for (let node = root.parent; node && node.tag !== '#document'; node = node.parent) elements.add(node);
+    });
+    return elements;
+}
+
+/* ──────────────────────────────────────────
+   SELETORES
+────────────────────────────────────────── */
+/** Divide em nível zero (fora de parênteses, colchetes e aspas) */
+function splitTopLevel(text, separator) {
+    const parts = [];
+    let depth = 0;
+    let quote = '';
+    let start = 0;
+    for (let i = 0; i < text.length; i++) {
+        const ch = text[i];
+        if (quote) {
+            if (ch === '\\') i++;
+            else if (ch === quote) quote = '';
+        } else if (ch === '"' || ch === "'") quote = ch;
+        else if (ch === '(' || ch === '[') depth++;
+        else if (ch === ')' || ch === ']') depth--;
+        else if (depth === 0 && ch === separator) {
+            parts.push(text.slice(start, i));
+            start = i + 1;
+        }
+    }
+    parts.push(text.slice(start));
+    return parts.map(part => part.trim()).filter(Boolean);
+}
+
+const COMPOUND_PATTERN = /\*|[a-zA-Z][\w-]*|#(?:\\.|[\w-])+|\.(?:\\.|[\w-])+|\[[^\]]*\]|::?[\w-]+(?:\((?:[^()]|\([^()]*\))*\))?/g;
+const unescape = value => value.replace(/\\(.)/g, '$1');
+
+/** 'div.a > .b:hover' → [{ compound, combinator }] da esquerda para a direita */
+function parseComplex(selector) {
+    const steps = [];
+    let combinator = null;
+    let i = 0;
+    while (i < selector.length) {
+        const ch = selector[i];
+        if (/\s/.test(ch)) {
+            combinator ??= ' ';
+            i++;
+            continue;
+        }
+        if (ch === '>' || ch === '+' || ch === '~') {
+            combinator = ch;
+            i++;
+            continue;
+        }
+
+        // Lê um compound até espaço/combinador de nível zero
+        let end = i;
+        let depth = 0;
+        while (end < selector.length) {
+            const c = selector[end];
+            if (c === '(' || c === '[') depth++;
+            else if (c === ')' || c === ']') depth--;
+            else if (depth === 0 && (/\s/.test(c) || c === '>' || c === '+' || c === '~')) break;
+            end++;
+        }
+        steps.push({ compound: selector.slice(i, end).match(COMPOUND_PATTERN) || [], combinator: steps.length ? combinator || ' ' : null });
+        combinator = null;
+        i = end;
+    }
+    return steps;
+}
+
+const ATTR_SELECTOR = /^\[\s*([\w-]+)\s*(?:([~|^$*]?=)\s*(?:"([^"]*)"|'([^']*)'|([^\s\]]+))\s*(i)?)?\s*\]$/;
+
+function matchesAttr(element, token) {
+    const match = token.match(ATTR_SELECTOR);
+    if (!match) return true;
+    const [, name, op, dq, sq, bare, insensitive] = match;
+    if (!(name in element.attrs)) return false;
+    if (!op) return true;
+
+    let actual = element.attrs[name];
+    let expected = dq ?? sq ?? bare ?? '';
+    if (insensitive) {
+        actual = actual.toLowerCase();
+        expected = expected.toLowerCase();
+    }
+    switch (op) {
+        case '=':  return actual === expected;
+        case '~=': return actual.split(/\s+/).includes(expected);
+        case '|=': return actual === expected || actual.startsWith(expected + '-');
+        case '^=': return actual.startsWith(expected);
+        case '$=': return actual.endsWith(expected);
+        case '*=': return actual.includes(expected);
+        default:   return true;
+    }
+}
+
+function createMatcher(runtimeClasses) {
+    const hasClass = (element, name) => {
+        if (element.classes.has(name)) return true;
+        if (runtimeClasses[element.tag]?.includes(name)) return true;
+        return [...element.classes].some(cls => runtimeClasses[cls]?.includes(name));
+    };
+
+    function matchesCompound(element, compound) {
+        return compound.every((token) => {
+            if (token === '*') return true;
+            if (token.startsWith('::')) return true;
+            if (token[0] === '#') return element.id === unescape(token.slice(1));
+            if (token[0] === '.') return hasClass(element, unescape(token.slice(1)));
+            if (token[0] === '[') return matchesAttr(element, token);
+            if (token[0] === ':') {
+                const name = token.slice(1).replace(/\(.*$/, '').toLowerCase();
+                if (name === 'root') return element.tag === 'html';
+                if (name === 'is' || name === 'where' || name === 'has') {
+                    const args = token.slice(token.indexOf('(') + 1, -1);
+                    return name === 'has' || splitTopLevel(args, ',').some(sel => matches(element, parseComplex(sel)));
+                }
+                // Estado, estrutura, :not, legados (:before) e desconhecidas: conservador
+                return true;
+            }
+            return element.tag === token.toLowerCase();
+        });
+    }
+
+    /** Casa os passos da direita para a esquerda, com backtracking nos combinadores */
+    function matchesFrom(element, steps, index) {
+        if (!matchesCompound(element, steps[index].compound)) return false;
+        if (index === 0) return true;
+
+        const { combinator } = steps[index];
+        const isElement = node => node && node.tag !== '#document';
+        const siblings = element.parent ? element.parent.children : [];
+        const position = siblings.indexOf(element);
+
+        switch (combinator) {
+            case '>':
+                return isElement(element.parent) && matchesFrom(element.parent, steps, index - 1);
+            case '+':
+                return position > 0 && matchesFrom(siblings[position - 1], steps, index - 1);
+            case '~':
+                return siblings.slice(0, position).some(sibling => matchesFrom(sibling, steps, index - 1));
+            default:
+                for (let node = element.parent; isElement(node); node = node.parent) {
+                    if (matchesFrom(node, steps, index - 1)) return true;
+                }
+                return false;
+        }
+    }
+
+    function matches(element, steps) {
+        return steps.length > 0 && matchesFrom(element, steps, steps.length - 1);
+    }
+
+    return matches;
+}
+
+/* ──────────────────────────────────────────
+   CSS
+────────────────────────────────────────── */
+/** Blocos de nível zero: { prelude, body } (body null em at-rules sem bloco) */
+function parseBlocks(css) {
+    const blocks = [];
+    let i = 0;
+    while (i < css.length) {
+        let start = i;
+        let quote = '';
+        // Prelude até '{' ou ';'
+        while (i < css.length) {
+            const ch = css[i];
+            if (quote) {
+                if (ch === '\\') i++;
+                else if (ch === quote) quote = '';
+            } else if (ch === '"' || ch === "'") quote = ch;
+            else if (ch === '/' && css[i + 1] === '*') {
+                const end = css.indexOf('*/', i + 2);
+                css = css.slice(0, i) + css.slice(end === -1 ? css.length : end + 2);
+                continue;
+            } else if (ch === '{' || ch === ';') break;
+            i++;
+        }
+        const prelude = css.slice(start, i).trim();
+        if (css[i] === ';' || i >= css.length) {
+            if (prelude) blocks.push({ prelude, body: null });
+            i++;
+            continue;
+        }
+
+        // Corpo até o '}' correspondente
+        let depth = 1;
+        start = ++i;
+        quote = '';
+        while (i < css.length && depth > 0) {
+            const ch = css[i];
+            if (quote) {
+                if (ch === '\\') i++;
+                else if (ch === quote) quote = '';
+            } else if (ch === '"' || ch === "'") quote = ch;
+            else if (ch === '{') depth++;
+            else if (ch === '}') depth--;
+            i++;
+        }
+        blocks.push({ prelude, body: css.slice(start, i - 1) });
+    }
+    return blocks;
+}
+
+const ANIMATION_PATTERN = /animation(?:-name)?\s*:([^;}]*)/g;
+
+/**
+ * @param {string} css       - Folha completa
+ * @param {Set}    elements  - Elementos do primeiro viewport
+ * @param {Function} matches - (element, steps) → boolean
+ * @returns {string} CSS crítico
+ */
+function extractCritical(css, elements, matches) {
+    const keyframes = [];
+
+    const filter = (source) => {
+        let out = '';
+        for (const { prelude, body } of parseBlocks(source)) {
+            if (body === null) {
+                // @charset/@layer declarado: preserva
+                if (prelude.startsWith('@charset') || prelude.startsWith('@layer')) out += `${prelude};`;
+                continue;
+            }
+            if (prelude[0] === '@') {
+                const name = prelude.slice(1).split(/[\s(]/)[0].toLowerCase();
+                if (name === 'media' || name === 'supports' || name === 'layer' || name === 'container') {
+                    const inner = filter(body);
+                    if (inner) out += `${prelude}{${inner}}`;
+                } else if (name.endsWith('keyframes')) {
+                    keyframes.push({ name: prelude.split(/\s+/)[1], block: `${prelude}{${body}}` });
+                } else if (name === 'font-face' || name === 'property' || name === 'counter-style') {
+                    out += `${prelude}{${body}}`;
+                }
+                continue;
+            }
+
+            const selectors = splitTopLevel(prelude, ',').filter((selector) => {
+                const steps = parseComplex(selector);
+                for (const element of elements) {
+                    if (matches(element, steps)) return true;
+                }
+                return false;
+            });
+            if (selectors.length) out += `${selectors.join(',')}{${body}}`;
+        }
+        return out;
+    };
+
+    let critical = filter(css);
+
+    // Só as animações usadas pelas regras mantidas
+    const used = new Set();
+    for (const [, value] of critical.matchAll(ANIMATION_PATTERN)) {
+        value.split(/[\s,]+/).forEach(word => used.add(word));
+    }
+    critical += keyframes.filter(({ name }) => used.has(name)).map(({ block }) => block).join('');
+    return critical;
+}
+
+/* ──────────────────────────────────────────
+   PLUGIN
+────────────────────────────────────────── */
+/** HTML da navegação como a NavigationView renderiza no cliente */
+async function renderNavigation() {
+    const contentModel = new ContentModel();
+    await contentModel.initializeContentModel();
+    const view = new NavigationView({ sections: contentModel.getAllSections() });
+    return `<div class="main-navigation-container">${view.createNavHTML()}</div>`;
+}
+
+const STYLESHEET_PATTERN = /<link\b[^>]*\brel="stylesheet"[^>]*>/g;
+
+/**
+ * @param {Object} [options] - Sobrescreve DEFAULTS
+ * @returns {import('vite').Plugin}
+ */
+export function criticalCss(options = {}) {
+    const opts = { ...DEFAULTS, ...options };
+    let config;
+
+    return {
+        name: 'site:critical-css',
+        apply: 'build',
+
+        configResolved(resolvedConfig) {
+            config = resolvedConfig;
+        },
+
+        transformIndexHtml: {
+            order: 'post',
+            async handler(html, { bundle }) {
+                // Só as folhas do próprio bundle (não CDNs)
+                const links = [...html.matchAll(STYLESHEET_PATTERN)]
+                    .map(([tag]) => ({ tag, href: tag.match(/\bhref="([^"]+)"/)?.[1] }))
+                    .filter(({ href }) => href?.startsWith(config.base) && bundle?.[href.slice(config.base.length)]);
+                if (!links.length) return html;
+
+                const document = parseHtml(html);
+                const nav = parseHtml(await renderNavigation()).children[0];
+                const body = findByTag(document, 'body');
+                if (body && nav) {
+                    nav.parent = body;
+                    body.children.unshift(nav);
+                }
+
+                const roots = [nav, ...opts.roots.map(id => findById(document, id))].filter(Boolean);
+                const elements = collectCritical(roots);
+                const matches = createMatcher(opts.runtimeClasses);
+
+                // Folhas de tema (carregadas à parte): as regras de ambos entram no crítico
+                const themes = config.plugins.find(p => p.name === 'site:theme-stylesheets');
+                let themeCss = Object.values(themes?.api?.getSources() || {}).join('\n');
+
+                let page = html;
+                for (const { tag, href } of links) {
+                    const css = String(bundle[href.slice(config.base.length)].source) + themeCss;
+                    themeCss = '';
+                    const critical = extractCritical(css, elements, matches);
+
+                    config.logger.info(`[critical-css] ${href}: ${(critical.length / 1024).toFixed(1)} KB inline ` +
+                        `de ${(css.length / 1024).toFixed(1)} KB (${elements.size} elementos).`);
+
+                    page = page.replace(tag,
+                        `<style data-critical>${critical}</style>\n` +
+                        `    <link rel="preload" href="${href}" as="style" onload="this.onload=null;this.rel='stylesheet'">\n` +
+                        `    <noscript><link rel="stylesheet" href="${href}"></noscript>`);
+                }
+                return page;
+            },
+        },
+    };
+}
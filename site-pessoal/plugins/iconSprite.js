@@ -0,0 +1,92 @@
+/**
+ * @file iconSprite.js
+ * @brief Plugin Vite — sprite SVG inline com exatamente os ícones de ICON_MAP.
+ * @description Lê ICON_MAP (src/js/views/renderers/SvgIcons.js), busca o SVG de cada
+ *              glifo do Font Awesome 6 Free e injeta no início do <body> um único
+ *              <svg hidden> com um <symbol id="icon-<chave>"> por entrada. renderIcon()
+ *              e o HTML estático referenciam os símbolos com <use href="#icon-...">:
+ *              nenhuma folha de estilo nem webfont de terceiros bloqueando a renderização.
+ *
+ *              Os glifos vêm de svgs/<estilo>/ do pacote `@fortawesome/fontawesome-free`
+ *              (devDependency): nada é baixado, então dev e build funcionam offline.
+ *              Sem o pacote o plugin falha com instrução de instalação; um glifo
+ *              ausente (nome errado em ICON_MAP) vira um <symbol> vazio e um aviso.
+ */
+import { createRequire } from 'node:module';
+import { readFile } from 'node:fs/promises';
+import path from 'node:path';
+import { ICON_MAP, ICON_PREFIX } from '../src/js/views/renderers/SvgIcons.js';
+
+const FA_PACKAGE = '@fortawesome/fontawesome-free';
+
+/** 'fa-brands fa-github' → { style: 'brands', name: 'github' } */
+function parseClasses(classes) {
+    const [style, name] = classes.split(/\s+/).map(cls => cls.replace(/^fa-/, ''));
+    return { style, name };
+}
+
+/** Diretório svgs/ do pacote instalado */
+function glyphDir(root) {
+    try {
+        const require = createRequire(path.join(root, 'package.json'));
+        return path.join(path.dirname(require.resolve(`${FA_PACKAGE}/package.json`)), 'svgs');
+    } catch {
+        throw new Error(`[icon-sprite] pacote ${FA_PACKAGE} não encontrado — rode \`npm install\` (devDependency do projeto).`);
+    }
+}
+
+/** <svg viewBox="…">conteúdo</svg> → { viewBox, body } */
+function parseGlyph(svg) {
+    const viewBox = svg.match(/viewBox="([^"]+)"/)?.[1];
+    const body = svg
+        .replace(/^[\s\S]*?<svg\b[^>]*>/, '')
+        .replace(/<\/svg>\s*$/, '')
+        .replace(/<!--[\s\S]*?-->/g, '')
+        .trim();
+    return viewBox && body ? { viewBox, body } : null;
+}
+
+/**
+ * @returns {import('vite').Plugin}
+ */
+export function iconSprite() {
+    let config;
+    let sprite = null;
+
+    async function buildSprite() {
+        const dir = glyphDir(config.root);
+        const symbols = await Promise.all(Object.entries(ICON_MAP).map(async ([key, classes]) => {
+            const glyph = parseClasses(classes);
+            try {
+                const svg = await readFile(path.join(dir, glyph.style, `${glyph.name}.svg`), 'utf8');
+                const { viewBox, body } = parseGlyph(svg) || {};
+                if (!body) throw new Error('SVG sem viewBox/conteúdo');
+                return `<symbol id="${ICON_PREFIX}${key}" viewBox="${viewBox}">${body}</symbol>`;
+            } catch (error) {
+                config.logger.warn(`[icon-sprite] ${glyph.style}/${glyph.name}: ${error.message}`);
+                return `<symbol id="${ICON_PREFIX}${key}" viewBox="0 0 512 512"></symbol>`;
+            }
+        }));
+
+        config.logger.info(`[icon-sprite] ${symbols.length} ícones.`);
+        return symbols.join('');
+    }
+
+    return {
+        name: 'site:icon-sprite',
+
+        configResolved(resolvedConfig) {
+            config = resolvedConfig;
+        },
+
+        async transformIndexHtml() {
+            sprite ??= await buildSprite();
+            return [{
+                tag: 'svg',
+                attrs: { xmlns: 'http://www.w3.org/2000/svg', 'aria-hidden': 'true', style: 'display:none' },
+                children: sprite,
+                injectTo: 'body-prepend',
+            }];
+        },
+    };
+}
@@ -0,0 +1,170 @@
+/**
+ * @file imagePipeline.js
+ * @brief Plugin Vite — gera variantes AVIF/WebP responsivas de public/images.
+ * @description Em `vite build`, cada JPG/PNG de public/images é codificado em AVIF e WebP
+ *              nas larguras configuradas (sem ampliar o original), com hash de conteúdo
+ *              no nome do arquivo. O resultado é exposto como módulo virtual
+ *              `virtual:image-manifest` (consumido por ResponsiveImage.js) e usado para
+ *              reescrever os <img> estáticos do index.html em <picture>.
+ *
+ *              A codificação usa `sharp` (devDependency), carregado sob demanda. Em dev o
+ *              manifesto fica vazio e as páginas usam as imagens originais. No build, se o
+ *              sharp faltar ou alguma imagem não gerar variantes, o build falha quando
+ *              `required` (padrão: variável CI definida) e só avisa fora dela.
+ */
+import { createHash } from 'node:crypto';
+import { readdir, readFile } from 'node:fs/promises';
+import path from 'node:path';
+import { renderSources } from '../src/js/views/renderers/ResponsiveImage.js';
+
+const VIRTUAL_ID  = 'virtual:image-manifest';
+const RESOLVED_ID = '\0' + VIRTUAL_ID;
+
+const DEFAULTS = {
+    sourceDir:    'public/images',
+    publicPrefix: './images/',
+    outDir:       'images/responsive',
+    widths:       [480, 960, 1600],
+    formats:      { avif: { quality: 50 }, webp: { quality: 72 } },
+    extensions:   ['.jpg', '.jpeg', '.png'],
+    defaultSizes: '100vw',
+    required:     Boolean(process.env.CI),
+};
+
+async function loadSharp() {
+    try {
+        return (await import('sharp')).default;
+    } catch {
+        return null;
+    }
+}
+
+function contentHash(buffer) {
+    return createHash('sha256').update(buffer).digest('hex').slice(0, 8);
+}
+
+function readAttr(tag, name) {
+    const match = tag.match(new RegExp(`\\s${name}="([^"]*)"`));
+    return match ? match[1] : null;
+}
+
+/**
+ * Larguras alvo para uma imagem: as configuradas menores que o original,
+ * mais o próprio original limitado à maior largura configurada.
+ */
+function targetWidths(widths, originalWidth) {
+    const max = Math.max(...widths);
+    const targets = widths.filter(w => w < originalWidth);
+    targets.push(Math.min(originalWidth, max));
+    return [...new Set(targets)].sort((a, b) => a - b);
+}
+
+/**
+ * @param {Object} [options] - Sobrescreve DEFAULTS
+ * @returns {import('vite').Plugin}
+ */
+export function imagePipeline(options = {}) {
+    const opts = { ...DEFAULTS, ...options };
+    let config;
+    let manifest = {};
+    const assets = [];
+
+    async function processImage(sharp, file) {
+        const source = await readFile(path.join(config.root, opts.sourceDir, file));
+        const { width, height } = await sharp(source).metadata();
+        const base = path.parse(file).name;
+        const entry = { width, height };
+
+        for (const [format, encodeOptions] of Object.entries(opts.formats)) {
+            entry[format] = [];
+            for (const targetWidth of targetWidths(opts.widths, width)) {
+                const buffer = await sharp(source)
+                    .resize({ width: targetWidth, withoutEnlargement: true })
+                    .toFormat(format, encodeOptions)
+                    .toBuffer();
+                const fileName = `${opts.outDir}/${base}-${targetWidth}-${contentHash(buffer)}.${format}`;
+
+                assets.push({ fileName, source: buffer });
+                entry[format].push({ src: `./${fileName}`, width: targetWidth });
+            }
+        }
+
+        return entry;
+    }
+
+    return {
+        name: 'site:image-pipeline',
+
+        /** Consumido pelo prerender para gerar <picture> no HTML estático */
+        api: {
+            getManifest: () => manifest,
+        },
+
+        configResolved(resolvedConfig) {
+            config = resolvedConfig;
+        },
+
+        async buildStart() {
+            manifest = {};
+            assets.length = 0;
+            if (config.command !== 'build') return;
+
+            // No CI um site sem variantes é regressão silenciosa: falha o build
+            const report = (message) => {
+                if (opts.required) this.error(`[image-pipeline] ${message}`);
+                config.logger.warn(`\n[image-pipeline] AVISO: ${message}\n`);
+            };
+
+            const sharp = await loadSharp();
+            if (!sharp) {
+                report('sharp não encontrado — rode `npm install`; usando imagens originais.');
+                return;
+            }
+
+            const files = (await readdir(path.join(config.root, opts.sourceDir)))
+                .filter(f => opts.extensions.includes(path.extname(f).toLowerCase()));
+
+            const failed = [];
+            for (const file of files) {
+                try {
+                    manifest[opts.publicPrefix + file] = await processImage(sharp, file);
+                } catch (error) {
+                    config.logger.warn(`[image-pipeline] falha ao processar ${file}: ${error.message}`);
+                    failed.push(file);
+                }
+            }
+            if (failed.length) report(`${failed.length} imagens sem variantes: ${failed.join(', ')}.`);
+
+            config.logger.info(`[image-pipeline] ${files.length} imagens → ${assets.length} variantes.`);
+        },
+
+        resolveId(id) {
+            if (id === VIRTUAL_ID) return RESOLVED_ID;
+        },
+
+        load(id) {
+            if (id === RESOLVED_ID) return `export default ${JSON.stringify(manifest)};`;
+        },
+
+        generateBundle() {
+            assets.forEach(({ fileName, source }) => {
+                this.emitFile({ type: 'asset', fileName, source });
+            });
+        },
+
+        /** Envolve os <img> estáticos do HTML cuja URL está no manifesto em <picture> */
+        transformIndexHtml(html) {
+            return html.replace(/<img\b[^>]*>/g, (tag) => {
+                const entry = manifest[readAttr(tag, 'src')];
+                if (!entry) return tag;
+
+                const sizes = readAttr(tag, 'sizes') || opts.defaultSizes;
+                const img = readAttr(tag, 'width')
+                    ? tag
+                    : tag.replace(/<img\b/, `<img width="${entry.width}" height="${entry.height}"`);
+
+                return `<picture>${renderSources(entry, sizes)}${img}</picture>`;
+            });
+        },
+    };
+}
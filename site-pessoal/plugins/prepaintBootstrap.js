@@ -0,0 +1,57 @@
+/**
+ * @file prepaintBootstrap.js
+ * @brief Plugin Vite — script inline no <head> que aplica as preferências salvas antes do paint.
+ * @description Serializa applyPersistedPreferences (src/js/core/PrepaintBootstrap.js)
+ *              com a configuração do build — chaves do localStorage, classes de
+ *              acessibilidade e URLs das folhas de tema (plugins/themeStylesheets.js) — e o
+ *              injeta como primeiro filho do <head>. Tema, alto contraste, movimento
+ *              reduzido e tamanho de fonte são gravados no <html> numa única escrita,
+ *              antes de existir <body>; os serviços só adotam esse estado.
+ *
+ *              No build o script é minificado; em dev vai legível.
+ */
+import { transformWithEsbuild } from 'vite';
+import {
+    applyPersistedPreferences,
+    PREFERENCE_KEYS,
+    A11Y_CLASSES,
+    PREPAINT_ATTRIBUTE,
+} from '../src/js/core/PrepaintBootstrap.js';
+
+/**
+ * @returns {import('vite').Plugin}
+ */
+export function prepaintBootstrap() {
+    let config;
+
+    return {
+        name: 'site:prepaint-bootstrap',
+
+        configResolved(resolvedConfig) {
+            config = resolvedConfig;
+        },
+
+        async transformIndexHtml() {
+            const themes = config.plugins.find(p => p.name === 'site:theme-stylesheets')?.api;
+            const bootstrapConfig = {
+                keys:         PREFERENCE_KEYS,
+                classes:      A11Y_CLASSES,
+                marker:       PREPAINT_ATTRIBUTE,
+                stylesheets:  themes?.getUrls() || {},
+                defaultTheme: themes?.defaultTheme || 'light',
+            };
+
+            let code = `(${applyPersistedPreferences})(${JSON.stringify(bootstrapConfig)});`;
+            if (config.command === 'build') {
+                code = (await transformWithEsbuild(code, 'prepaint-bootstrap.js', { minify: true })).code.trim();
+            }
+
+            return [{
+                tag: 'script',
+                attrs: { 'data-bootstrap': 'prepaint' },
+                children: code,
+                injectTo: 'head-prepend',
+            }];
+        },
+    };
+}
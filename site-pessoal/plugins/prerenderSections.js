@@ -0,0 +1,73 @@
+/**
+ * @file prerenderSections.js
+ * @brief Plugin Vite — pré-renderiza as seções do PORTFOLIO_DATA no dist/index.html.
+ * @description Executa no Node, em `vite build`, os mesmos renderers puros usados no
+ *              cliente (SectionRenderer + SECTION_DEFINITIONS, serializados por
+ *              renderToString, sem DOM) e injeta o HTML dentro de
+ *              #sections-container. O conteúdo fica disponível no primeiro paint,
+ *              sem esperar parse/execução do JS; o cliente só precisa hidratar
+ *              comportamento (scroll reveal, skill bars, navegação).
+ *
+ *              Roda em `order: 'post'`, depois do imagePipeline reescrever os <img>
+ *              estáticos, e reaproveita o manifesto dele para gerar os <picture>.
+ */
+import { ContentModel } from '../src/js/models/ContentModel.js';
+import { SECTION_DEFINITIONS, renderSection, renderToString } from '../src/js/views/renderers/index.js';
+import { setImageManifest } from '../src/js/views/renderers/ResponsiveImage.js';
+
+const CONTAINER_PATTERN = /<div id="sections-container"><\/div>/;
+
+/** Sem JS o scroll reveal nunca dispara — mantém o conteúdo pré-renderizado visível */
+const NOSCRIPT_STYLE =
+    '<noscript><style>.animate-on-scroll{opacity:1;transform:none}</style></noscript>';
+
+/**
+ * @param {Object} sections - Seções ordenadas (ContentModel.getAllSections())
+ * @returns {string} HTML de todas as seções visíveis
+ */
+function renderAllSections(sections) {
+    return sections
+        .filter(section => section.metadata?.visible && SECTION_DEFINITIONS[section.type])
+        .map((section, idx) => renderToString(renderSection(section, idx + 1, SECTION_DEFINITIONS[section.type])))
+        .join('');
+}
+
+/**
+ * @returns {import('vite').Plugin}
+ */
+export function prerenderSections() {
+    let config;
+
+    return {
+        name: 'site:prerender-sections',
+        apply: 'build',
+
+        configResolved(resolvedConfig) {
+            config = resolvedConfig;
+        },
+
+        transformIndexHtml: {
+            order: 'post',
+            async handler(html) {
+                if (!CONTAINER_PATTERN.test(html)) {
+                    config.logger.warn('[prerender] #sections-container vazio não encontrado no HTML.');
+                    return html;
+                }
+
+                const imagePipeline = config.plugins.find(p => p.name === 'site:image-pipeline');
+                setImageManifest(imagePipeline?.api?.getManifest() || {});
+
+                const contentModel = new ContentModel();
+                await contentModel.initializeContentModel();
+                const markup = renderAllSections(contentModel.getAllSections());
+
+                config.logger.info(`[prerender] ${Math.round(markup.length / 1024)} KB de seções inlined.`);
+
+                return html
+                    .replace(CONTAINER_PATTERN,
+                        `<div id="sections-container" data-prerendered>${markup}</div>`)
+                    .replace('</head>', `    ${NOSCRIPT_STYLE}\n</head>`);
+            },
+        },
+    };
+}
@@ -0,0 +1,103 @@
+/**
+ * @file sectionIndex.js
+ * @brief Plugin Vite — índice das seções com import() por módulo de dados.
+ * @description Gera o módulo virtual `virtual:section-index` (consumido por
+ *              data/SectionIndex.js): para cada seção de PORTFOLIO_DATA, os metadados
+ *              (id, type, title, subtitle, metadata) vão inline e o conteúdo fica atrás
+ *              de `load: () => import('/src/js/data/sections/x.js')` — cada módulo de
+ *              ./sections/ vira um chunk baixado só quando a seção chega perto da tela.
+ *
+ *              Os dados são lidos no Node e cada seção é associada ao seu arquivo por
+ *              identidade do objeto exportado. Seção sem arquivo próprio (definida
+ *              direto em PortfolioData.js) carrega o PortfolioData inteiro.
+ *
+ *              Em dev o módulo importa PortfolioData diretamente: sem chunks, mas com
+ *              HMR normal ao editar os dados.
+ */
+import { readdir } from 'node:fs/promises';
+import path from 'node:path';
+import { pathToFileURL } from 'node:url';
+
+const VIRTUAL_ID  = 'virtual:section-index';
+const RESOLVED_ID = '\0' + VIRTUAL_ID;
+
+const DEFAULTS = {
+    dataDir:     'src/js/data',
+    sectionsDir: 'src/js/data/sections',
+    portfolio:   'PortfolioData.js',
+};
+
+/** Campos do índice (o resto — content — fica no chunk da seção) */
+const INDEX_FIELDS = ['id', 'type', 'title', 'subtitle', 'metadata'];
+
+/**
+ * @param {Object} [options] - Sobrescreve DEFAULTS
+ * @returns {import('vite').Plugin}
+ */
+export function sectionIndex(options = {}) {
+    const opts = { ...DEFAULTS, ...options };
+    let config;
+
+    const urlOf = dir => '/' + path.posix.join(dir.split(path.sep).join('/'));
+
+    /** arquivo de ./sections → { exportName → objeto } */
+    async function loadSectionModules() {
+        const dir = path.join(config.root, opts.sectionsDir);
+        const files = (await readdir(dir)).filter(file => file.endsWith('.js')).sort();
+        return Promise.all(files.map(async (file) => ({
+            file,
+            exports: await import(pathToFileURL(path.join(dir, file)).href),
+        })));
+    }
+
+    async function buildModule() {
+        const portfolioFile = path.join(config.root, opts.dataDir, opts.portfolio);
+        const modules = await loadSectionModules();
+
+        // PortfolioData importa os mesmos módulos: os objetos são idênticos aos de cima
+        const { PORTFOLIO_DATA } = await import(pathToFileURL(portfolioFile).href);
+        const portfolioUrl = urlOf(path.join(opts.dataDir, opts.portfolio));
+
+        const entries = (PORTFOLIO_DATA.sections || []).map((section) => {
+            const fields = INDEX_FIELDS
+                .filter(field => section[field] !== undefined)
+                .map(field => `${JSON.stringify(field)}: ${JSON.stringify(section[field])}`);
+
+            const owner = modules.find(({ exports }) =>
+                Object.values(exports).includes(section));
+            const exportName = owner && Object.keys(owner.exports).find(name => owner.exports[name] === section);
+
+            const load = owner
+                ? `() => import(${JSON.stringify(urlOf(path.join(opts.sectionsDir, owner.file)))}).then(m => m[${JSON.stringify(exportName)}])`
+                : `() => import(${JSON.stringify(portfolioUrl)}).then(m => m.PORTFOLIO_DATA.sections.find(s => s.id === ${JSON.stringify(section.id)}))`;
+
+            return `    { ${fields.join(', ')}, load: ${load} }`;
+        });
+
+        return `export default [\n${entries.join(',\n')}\n];\n`;
+    }
+
+    return {
+        name: 'site:section-index',
+
+        configResolved(resolvedConfig) {
+            config = resolvedConfig;
+        },
+
+        resolveId(id) {
+            if (id === VIRTUAL_ID) return RESOLVED_ID;
+        },
+
+        async load(id) {
+            if (id !== RESOLVED_ID) return;
+
+            if (config.command !== 'build') {
+                const portfolioUrl = urlOf(path.join(opts.dataDir, opts.portfolio));
+                return `import { PORTFOLIO_DATA } from ${JSON.stringify(portfolioUrl)};\n` +
+                    'export default PORTFOLIO_DATA.sections.map(section => ({ ...section, load: async () => section }));\n';
+            }
+
+            return buildModule();
+        },
+    };
+}
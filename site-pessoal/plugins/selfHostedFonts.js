@@ -0,0 +1,307 @@
+/**
+ * @file selfHostedFonts.js
+ * @brief Plugin Vite — Inter auto-hospedada: woff2 subset latino, preload e fallback métrico.
+ * @description Substitui o CSS do fonts.googleapis.com (render-blocking, duas conexões de
+ *              terceiros) por:
+ *                - @font-face inline no <head>, só com os pesos usados nas folhas listadas
+ *                  em `scan` (mais o 400 do texto corrido), subset `latin` — cobre todo o
+ *                  português (U+00C0–00FF) e a pontuação tipográfica;
+ *                - <link rel=preload> para os pesos do hero;
+ *                - face "Inter Fallback": Arial local com size-adjust/ascent/descent/line-gap
+ *                  calculados das métricas do próprio woff2, para a troca (font-display:
+ *                  swap) não deslocar o layout.
+ *
+ *              Origem dos arquivos, nesta ordem:
+ *                1. pacote `@fontsource/inter`, se instalado (files/inter-latin-<peso>-normal.woff2)
+ *                2. subset latin servido pela API do Google Fonts, baixado no build e
+ *                   guardado em node_modules/.cache/fonts
+ *              Sem nenhum dos dois, o <link> do Google Fonts é mantido e um aviso é logado.
+ *
+ *              O Google serve a Inter como fonte variável: pesos com o mesmo arquivo viram
+ *              um único @font-face com intervalo (font-weight: 400 900).
+ */
+import { createHash } from 'node:crypto';
+import { createRequire } from 'node:module';
+import { mkdir, readFile, writeFile } from 'node:fs/promises';
+import path from 'node:path';
+import { brotliDecompressSync } from 'node:zlib';
+
+const FAMILY   = 'Inter';
+const FALLBACK = `${FAMILY} Fallback`;
+
+/** unicode-range do subset `latin` do Google Fonts */
+const LATIN_RANGE = 'U+0000-00FF, U+0131, U+0152-0153, U+02BB-02BC, U+02C6, U+02DA, U+02DC, ' +
+    'U+0304, U+0308, U+0329, U+2000-206F, U+2074, U+20AC, U+2122, U+2191, U+2193, U+2212, U+2215, U+FEFF, U+FFFD';
+
+/** UA moderno: sem ele a API do Google responde com TTF */
+const WOFF2_UA = 'Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0 Safari/537.36';
+
+/** Métricas do Arial (e dos métrico-compatíveis Arimo/Liberation Sans) */
+const ARIAL = { unitsPerEm: 2048, xAvgCharWidth: 904 };
+
+const DEFAULTS = {
+    scan:         ['src/css/components.css', 'src/css/layout.css'],
+    baseWeight:   400,
+    // Hero: título 900, subtítulo 500, descrição 400
+    preload:      [400, 500, 900],
+    cacheDir:     'node_modules/.cache/fonts',
+    outDir:       'fonts',
+    googleCss:    'https://fonts.googleapis.com/css2',
+    fallbackFonts: ['Arial', 'Arimo', 'Liberation Sans'],
+};
+
+/* ──────────────────────────────────────────
+   PESOS USADOS
+────────────────────────────────────────── */
+const KEYWORD_WEIGHTS = { normal: 400, bold: 700 };
+
+async function usedWeights(root, files, baseWeight) {
+    const weights = new Set([baseWeight]);
+    for (const file of files) {
+        const css = await readFile(path.join(root, file), 'utf8');
+        for (const [, value] of css.matchAll(/font-weight\s*:\s*([a-z0-9]+)/gi)) {
+            const weight = KEYWORD_WEIGHTS[value.toLowerCase()] ?? Number(value);
+            if (weight >= 100 && weight <= 900) weights.add(weight);
+        }
+    }
+    return [...weights].sort((a, b) => a - b);
+}
+
+/* ──────────────────────────────────────────
+   MÉTRICAS (WOFF2 → head/hhea/OS2)
+────────────────────────────────────────── */
+/** Índices da lista de tags conhecidas do WOFF2 que interessam aqui */
+const TAG = { head: 1, hhea: 2, hmtx: 3, os2: 6, glyf: 10, loca: 11 };
+
+function readBase128(buffer, state) {
+    let value = 0;
+    for (let i = 0; i < 5; i++) {
+        const byte = buffer[state.offset++];
+        value = (value * 128) + (byte & 0x7f);
+        if (!(byte & 0x80)) return value;
+    }
+    throw new Error('UIntBase128 inválido');
+}
+
+/**
+ * Lê unitsPerEm, métricas verticais do hhea e xAvgCharWidth do OS/2.
+ * Essas tabelas nunca são transformadas no WOFF2: basta descomprimir o stream.
+ */
+function readMetrics(woff2) {
+    if (woff2.toString('latin1', 0, 4) !== 'wOF2') throw new Error('não é WOFF2');
+
+    const numTables = woff2.readUInt16BE(12);
+    const state = { offset: 48 };
+    const tables = [];
+    for (let i = 0; i < numTables; i++) {
+        const flags = woff2[state.offset++];
+        const tag = flags & 0x3f;
+        if (tag === 0x3f) state.offset += 4;
+        const version = flags >> 6;
+        const origLength = readBase128(woff2, state);
+        const transformed = (tag === TAG.glyf || tag === TAG.loca) ? version === 0 : version !== 0;
+        const length = transformed ? readBase128(woff2, state) : origLength;
+        tables.push({ tag, length });
+    }
+
+    const stream = brotliDecompressSync(woff2.subarray(state.offset, state.offset + woff2.readUInt32BE(20)));
+    const at = {};
+    let offset = 0;
+    tables.forEach(({ tag, length }) => {
+        at[tag] = offset;
+        offset += length;
+    });
+    if ([TAG.head, TAG.hhea, TAG.os2].some(tag => at[tag] === undefined)) throw new Error('tabelas ausentes');
+
+    return {
+        unitsPerEm:    stream.readUInt16BE(at[TAG.head] + 18),
+        ascender:      stream.readInt16BE(at[TAG.hhea] + 4),
+        descender:     stream.readInt16BE(at[TAG.hhea] + 6),
+        lineGap:       stream.readInt16BE(at[TAG.hhea] + 8),
+        xAvgCharWidth: stream.readInt16BE(at[TAG.os2] + 2),
+    };
+}
+
+/** Overrides da face de fallback para ocupar o mesmo espaço que a Inter */
+function fallbackOverrides(metrics) {
+    const sizeAdjust = (metrics.xAvgCharWidth / metrics.unitsPerEm) /
+        (ARIAL.xAvgCharWidth / ARIAL.unitsPerEm);
+    const percent = value => `${(value * 100).toFixed(2)}%`;
+    return {
+        'size-adjust':       percent(sizeAdjust),
+        'ascent-override':   percent(metrics.ascender / metrics.unitsPerEm / sizeAdjust),
+        'descent-override':  percent(Math.abs(metrics.descender) / metrics.unitsPerEm / sizeAdjust),
+        'line-gap-override': percent(metrics.lineGap / metrics.unitsPerEm / sizeAdjust),
+    };
+}
+
+/* ──────────────────────────────────────────
+   ORIGENS DOS ARQUIVOS
+────────────────────────────────────────── */
+/** @returns {Array<{weights: number[], source: Buffer}>} ou null */
+async function fromFontsource(root, weights) {
+    let dir;
+    try {
+        const require = createRequire(path.join(root, 'package.json'));
+        dir = path.join(path.dirname(require.resolve('@fontsource/inter/package.json')), 'files');
+    } catch {
+        return null;
+    }
+    return Promise.all(weights.map(async weight => ({
+        weights: [weight],
+        source:  await readFile(path.join(dir, `inter-latin-${weight}-normal.woff2`)),
+    })));
+}
+
+async function fromGoogle(root, weights, opts) {
+    const cacheDir = path.join(root, opts.cacheDir);
+    const cssUrl = `${opts.googleCss}?family=${FAMILY}:wght@${weights.join(';')}&display=swap`;
+    const cssFile = path.join(cacheDir, `${createHash('sha256').update(cssUrl).digest('hex').slice(0, 12)}.css`);
+
+    let css;
+    try {
+        css = await readFile(cssFile, 'utf8');
+    } catch {
+        const response = await fetch(cssUrl, { headers: { 'user-agent': WOFF2_UA } });
+        if (!response.ok) throw new Error(`HTTP ${response.status}`);
+        css = await response.text();
+        await mkdir(cacheDir, { recursive: true });
+        await writeFile(cssFile, css);
+    }
+
+    // Um bloco por (subset, peso); o mesmo arquivo pode servir vários pesos
+    const byUrl = new Map();
+    for (const [, subset, body] of css.matchAll(/\/\*\s*([\w-]+)\s*\*\/\s*@font-face\s*{([^}]*)}/g)) {
+        if (subset !== 'latin') continue;
+        const url = body.match(/url\(([^)]+)\)\s*format\(['"]woff2['"]\)/)?.[1];
+        const weight = Number(body.match(/font-weight:\s*(\d+)/)?.[1]);
+        if (!url || !weight) continue;
+        if (!byUrl.has(url)) byUrl.set(url, []);
+        byUrl.get(url).push(weight);
+    }
+    if (!byUrl.size) throw new Error('nenhum woff2 latin na resposta');
+
+    return Promise.all([...byUrl].map(async ([url, urlWeights]) => {
+        const file = path.join(cacheDir, path.basename(new URL(url).pathname));
+        let source;
+        try {
+            source = await readFile(file);
+        } catch {
+            const response = await fetch(url);
+            if (!response.ok) throw new Error(`HTTP ${response.status} em ${url}`);
+            source = Buffer.from(await response.arrayBuffer());
+            await writeFile(file, source);
+        }
+        return { weights: urlWeights.sort((a, b) => a - b), source };
+    }));
+}
+
+/* ──────────────────────────────────────────
+   PLUGIN
+────────────────────────────────────────── */
+/**
+ * @param {Object} [options] - Sobrescreve DEFAULTS
+ * @returns {import('vite').Plugin}
+ */
+export function selfHostedFonts(options = {}) {
+    const opts = { ...DEFAULTS, ...options };
+    let config;
+    let faces = [];      // { weights, fileName, url, source }
+    let fallback = null; // overrides da face de fallback
+
+    function faceCss({ weights, url }) {
+        const weight = weights.length > 1 ? `${weights[0]} ${weights[weights.length - 1]}` : weights[0];
+        return `@font-face{font-family:'${FAMILY}';font-style:normal;font-weight:${weight};font-display:swap;` +
+            `src:url(${url}) format('woff2');unicode-range:${LATIN_RANGE}}`;
+    }
+
+    function fallbackCss() {
+        const src = opts.fallbackFonts.map(name => `local('${name}')`).join(',');
+        const overrides = Object.entries(fallback).map(([prop, value]) => `${prop}:${value}`).join(';');
+        return `@font-face{font-family:'${FALLBACK}';src:${src};${overrides}}`;
+    }
+
+    return {
+        name: 'site:self-hosted-fonts',
+
+        configResolved(resolvedConfig) {
+            config = resolvedConfig;
+        },
+
+        async buildStart() {
+            faces = [];
+            fallback = null;
+
+            const weights = await usedWeights(config.root, opts.scan, opts.baseWeight);
+            let files;
+            try {
+                files = await fromFontsource(config.root, weights) || await fromGoogle(config.root, weights, opts);
+            } catch (error) {
+                config.logger.warn(`[fonts] ${FAMILY} indisponível (${error.message}) — mantendo o Google Fonts.`);
+                return;
+            }
+
+            faces = files.map(({ weights: faceWeights, source }) => {
+                const hash = createHash('sha256').update(source).digest('hex').slice(0, 8);
+                const fileName = `${opts.outDir}/${FAMILY.toLowerCase()}-latin-${faceWeights.join('_')}-${hash}.woff2`;
+                const url = config.command === 'build'
+                    ? config.base + fileName
+                    : path.posix.join('/@fs', path.join(config.root, opts.cacheDir, fileName).split(path.sep).join('/'));
+                return { weights: faceWeights, fileName, url, source };
+            });
+
+            // Em dev os arquivos são servidos do cache via /@fs
+            if (config.command !== 'build') {
+                await Promise.all(faces.map(async ({ fileName, source }) => {
+                    const file = path.join(config.root, opts.cacheDir, fileName);
+                    await mkdir(path.dirname(file), { recursive: true });
+                    await writeFile(file, source);
+                }));
+            }
+
+            try {
+                fallback = fallbackOverrides(readMetrics(faces[0].source));
+            } catch (error) {
+                config.logger.warn(`[fonts] métricas não lidas (${error.message}) — fallback sem overrides.`);
+                fallback = {};
+            }
+
+            config.logger.info(`[fonts] ${FAMILY} pesos ${weights.join(', ')} → ${faces.length} arquivo(s) woff2.`);
+        },
+
+        generateBundle() {
+            faces.forEach(({ fileName, source }) => {
+                this.emitFile({ type: 'asset', fileName, source });
+            });
+        },
+
+        transformIndexHtml(html) {
+            if (!faces.length) return html;
+
+            // Sem o CSS e as conexões de terceiros
+            const page = html
+                .replace(/\s*<link[^>]+fonts\.(googleapis|gstatic)\.com[^>]*>/g, '');
+
+            const preloads = faces
+                .filter(({ weights }) => weights.some(weight => opts.preload.includes(weight)))
+                .map(({ url }) => ({
+                    tag: 'link',
+                    attrs: { rel: 'preload', href: url, as: 'font', type: 'font/woff2', crossorigin: '' },
+                    injectTo: 'head-prepend',
+                }));
+
+            return {
+                html: page,
+                tags: [
+                    ...preloads,
+                    {
+                        tag: 'style',
+                        attrs: { 'data-fonts': FAMILY },
+                        children: faces.map(faceCss).join('') + fallbackCss(),
+                        injectTo: 'head-prepend',
+                    },
+                ],
+            };
+        },
+    };
+}
@@ -0,0 +1,66 @@
+/**
+ * @file serviceWorker.js
+ * @brief Plugin Vite — gera o sw.js com a lista de precache do bundle.
+ * @description Em `vite build`, depois dos demais plugins, coleta os arquivos com hash
+ *              emitidos por rollupOptions.output (entry, chunks, CSS, fontes), injeta a
+ *              lista em src/js/sw/service-worker.js e emite o resultado como `sw.js` na
+ *              raiz do outDir — servido em `${base}sw.js`, com escopo igual à base.
+ *
+ *              A versão do cache deriva do conteúdo do bundle: um deploy novo gera um
+ *              sw.js diferente, o navegador instala a nova versão e o activate apaga os
+ *              caches antigos.
+ */
+import { createHash } from 'node:crypto';
+import { readFile } from 'node:fs/promises';
+import path from 'node:path';
+
+const DEFAULTS = {
+    source:     'src/js/sw/service-worker.js',
+    fileName:   'sw.js',
+    precache:   /\.(js|css|woff2?)$/,
+    // Imagens do site (cache-first): o que passar disso sai por ordem de uso
+    imageBudget: { maxBytes: 30 * 1024 * 1024, maxEntries: 120 },
+};
+
+/**
+ * @param {Object} [options] - Sobrescreve DEFAULTS
+ * @returns {import('vite').Plugin}
+ */
+export function serviceWorker(options = {}) {
+    const opts = { ...DEFAULTS, ...options };
+    let config;
+
+    return {
+        name: 'site:service-worker',
+        apply: 'build',
+        enforce: 'post',
+
+        configResolved(resolvedConfig) {
+            config = resolvedConfig;
+        },
+
+        async generateBundle(_, bundle) {
+            const files = Object.values(bundle)
+                .filter(file => file.fileName !== opts.fileName && opts.precache.test(file.fileName))
+                .map(file => file.fileName)
+                .sort();
+
+            const hash = createHash('sha256');
+            files.forEach(fileName => {
+                const file = bundle[fileName];
+                hash.update(fileName).update(file.type === 'chunk' ? file.code : file.source);
+            });
+            if (bundle['index.html']) hash.update(bundle['index.html'].source);
+            const version = hash.digest('hex').slice(0, 8);
+
+            const template = await readFile(path.join(config.root, opts.source), 'utf8');
+            const source = template
+                .replace('self.__PRECACHE_MANIFEST__', JSON.stringify(files))
+                .replace('self.__CACHE_VERSION__', JSON.stringify(version))
+                .replace('self.__IMAGE_BUDGET__', JSON.stringify(opts.imageBudget));
+
+            this.emitFile({ type: 'asset', fileName: opts.fileName, source });
+            config.logger.info(`[service-worker] ${files.length} arquivos no precache (versão ${version}).`);
+        },
+    };
+}
@@ -0,0 +1,92 @@
+/**
+ * @file themeStylesheets.js
+ * @brief Plugin Vite — uma folha por tema, carregada só quando o tema está ativo.
+ * @description dark.css e light.css saem do styles.css e viram assets próprios
+ *              (minificados, com hash de conteúdo). As URLs são expostas como módulo
+ *              virtual `virtual:theme-stylesheets` (consumido pelo ThemeManager) e via
+ *              `api.getUrls()` ao bootstrap pré-paint (plugins/prepaintBootstrap.js), que
+ *              insere o <link> só da folha do tema salvo.
+ *
+ *              Links inseridos por script não bloqueiam a renderização: o que aparece no
+ *              primeiro viewport já vem tematizado pelo CSS crítico (plugins/criticalCss.js
+ *              inclui as regras dos dois temas via `api.getSources()`).
+ *
+ *              Em dev as URLs apontam para os arquivos de src/css servidos pelo Vite.
+ */
+import { createHash } from 'node:crypto';
+import { readFile } from 'node:fs/promises';
+import path from 'node:path';
+import { transformWithEsbuild } from 'vite';
+
+const VIRTUAL_ID  = 'virtual:theme-stylesheets';
+const RESOLVED_ID = '\0' + VIRTUAL_ID;
+
+const DEFAULTS = {
+    themes:       { light: 'src/css/light.css', dark: 'src/css/dark.css' },
+    defaultTheme: 'light',
+    outDir:       'public/images/css',
+};
+
+/**
+ * @param {Object} [options] - Sobrescreve DEFAULTS
+ * @returns {import('vite').Plugin}
+ */
+export function themeStylesheets(options = {}) {
+    const opts = { ...DEFAULTS, ...options };
+    let config;
+    let sheets = {}; // tema → { fileName, url, source }
+
+    const urls = () => Object.fromEntries(Object.entries(sheets).map(([theme, { url }]) => [theme, url]));
+
+    return {
+        name: 'site:theme-stylesheets',
+
+        api: {
+            /** CSS crítico: regras dos dois temas */
+            getSources: () => Object.fromEntries(
+                Object.entries(sheets).map(([theme, { source }]) => [theme, source])),
+            /** Bootstrap pré-paint: tema → URL */
+            getUrls: urls,
+            defaultTheme: opts.defaultTheme,
+        },
+
+        configResolved(resolvedConfig) {
+            config = resolvedConfig;
+        },
+
+        async buildStart() {
+            sheets = {};
+            for (const [theme, file] of Object.entries(opts.themes)) {
+                const absolute = path.join(config.root, file);
+                this.addWatchFile(absolute);
+
+                if (config.command !== 'build') {
+                    sheets[theme] = { url: config.base + file, source: await readFile(absolute, 'utf8') };
+                    continue;
+                }
+
+                const { code } = await transformWithEsbuild(await readFile(absolute, 'utf8'), absolute, {
+                    loader: 'css',
+                    minify: true,
+                });
+                const hash = createHash('sha256').update(code).digest('hex').slice(0, 8);
+                const fileName = `${opts.outDir}/theme-${theme}-${hash}.css`;
+                sheets[theme] = { fileName, url: config.base + fileName, source: code };
+            }
+        },
+
+        resolveId(id) {
+            if (id === VIRTUAL_ID) return RESOLVED_ID;
+        },
+
+        load(id) {
+            if (id === RESOLVED_ID) return `export default ${JSON.stringify(urls())};`;
+        },
+
+        generateBundle() {
+            Object.values(sheets).forEach(({ fileName, source }) => {
+                this.emitFile({ type: 'asset', fileName, source });
+            });
+        },
+    };
+}
@@ -1,17 +1,22 @@
 import eventBus from '../core/EventBus.js';
 import { ViewManager } from '../views/ViewManager.js';
+import tracer from '../core/Tracer.js';
 
 /**
  * @brief Main application controller
  * @description Orchestrates views and models for the main content
  */
 class MainController {
+    /** Initialized by App after these nodes */
+    static dependencies = ['contentModel'];
+
     constructor(dependencies = {}) {
         this.eventBus = dependencies.eventBus || eventBus;
         this.contentModel = dependencies.contentModel;
         this.services = dependencies.services || {};
         
         this.viewManager = null;
+        this.renderPromise = null;
         this.isInitialized = false;
 
         this.onContentLoaded = this.onContentLoaded.bind(this);
@@ -41,17 +46,10 @@ class MainController {
                 eventBus: this.eventBus
             });
 
-            // Set up event listeners
+            // Set up event listeners: content:loaded is sticky, so the initial
+            // render starts here if the model is already loaded, or when it is
             this.setupEventListeners();
 
-            // Wait for content model to be ready
-            if (this.contentModel && !this.contentModel.isInitialized) {
-                await this.contentModel.initializeContentModel();
-            }
-
-            // Initial render
-            await this.renderAllSections();
-
             this.isInitialized = true;
             console.info('MainController: Initialized successfully');
 
@@ -67,15 +65,16 @@ class MainController {
     setupEventListeners() {
         this.eventBus.subscribe('content:loaded', this.onContentLoaded);
         this.eventBus.subscribe('section:activated', this.onSectionActivated);
-        this.eventBus.subscribe('ui:loading:hide', this.hideLoadingOverlay.bind(this));
     }
 
     /**
      * @brief Handle content loaded event
+     * @description The first section is committed synchronously, the rest is
+     *              scheduled by ViewManager.hydrate without blocking startup.
      * @param {Object} data - Event data
      */
     onContentLoaded(data) {
-        this.renderAllSections();
+        this.renderPromise = tracer.trace('sections.render', () => this.renderAllSections(), { category: 'render' });
     }
 
     /**
@@ -98,19 +97,21 @@ class MainController {
 
         try {
             const sections = this.contentModel.getAllSections();
-            
-            // Clear existing content
-            this.viewManager.container.innerHTML = '';
-            
-            // Render each section
-            sections.forEach(section => {
-                if (section.metadata.visible) {
-                    this.viewManager.renderSection(section);
-                }
+            const visibleSections = sections.filter(section => section.metadata.visible);
+
+            // Adopts prerendered sections; missing or stale ones are rendered
+            // incrementally, starting with the section targeted by the URL hash.
+            // Sections far below the fold fetch their data only when approached
+            const startedAt = performance.now();
+            const stats = await this.viewManager.hydrate(visibleSections, {
+                priorityId: window.location.hash.slice(1) || null,
+                loadSection: id => this.contentModel.loadSection(id)
             });
+            if (stats.aborted) return;
 
-            this.eventBus.publish('maincontroller:sections:rendered', { sections });
-            console.info(`MainController: Rendered ${sections.length} sections`);
+            const duration = performance.now() - startedAt;
+            this.eventBus.publish('maincontroller:sections:rendered', { sections, stats, duration });
+            console.info(`MainController: Rendered ${sections.length} sections in ${duration.toFixed(1)}ms`, stats);
 
         } catch (error) {
             console.error('MainController: Error rendering sections', error);
@@ -135,19 +136,6 @@ class MainController {
         }
     }
 
-    /**
-     * @brief Hide loading overlay
-     */
-    hideLoadingOverlay() {
-        const overlay = document.getElementById('loading-overlay');
-        if (overlay) {
-            overlay.style.opacity = '0';
-            setTimeout(() => {
-                overlay.style.display = 'none';
-            }, 500);
-        }
-    }
-
     /**
      * @brief Get section by ID
      * @param {string} sectionId - Section identifier
@@ -164,8 +152,8 @@ class MainController {
      */
     updateSection(sectionId, newContent) {
         if (this.contentModel) {
-            this.contentModel.updateSection(sectionId, newContent);
-            this.eventBus.publish('section:updated', { sectionId, newContent });
+            const section = this.contentModel.updateSection(sectionId, newContent);
+            if (section) this.eventBus.publish('section:updated', { sectionId, newContent, section });
         }
     }
 
@@ -175,8 +163,9 @@ class MainController {
     destroy() {
         this.eventBus.unsubscribe('content:loaded', this.onContentLoaded);
         this.eventBus.unsubscribe('section:activated', this.onSectionActivated);
-        this.eventBus.unsubscribe('ui:loading:hide', this.hideLoadingOverlay);
         
+        // Unsubscribes section:updated and disconnects its IntersectionObservers
+        this.viewManager?.destroy();
         this.viewManager = null;
         this.isInitialized = false;
         
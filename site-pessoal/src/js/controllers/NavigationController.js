@@ -1,11 +1,15 @@
 import eventBus from '../core/EventBus.js';
 import { NavigationView } from '../views/NavigationView.js';
+import tracer from '../core/Tracer.js';
 
 /**
  * @brief Navigation controller
  * @description Manages navigation state and interactions
  */
 export class NavigationController {
+    /** Initialized by App after these nodes */
+    static dependencies = ['contentModel'];
+
     constructor(dependencies = {}) {
         this.eventBus = dependencies.eventBus || eventBus;
         this.contentModel = dependencies.contentModel;
@@ -16,6 +20,7 @@ export class NavigationController {
 
         this.onContentLoaded = this.onContentLoaded.bind(this);
         this.onScroll = this.onScroll.bind(this);
+        this.handleNavigationClick = this.handleNavigationClick.bind(this);
     }
 
     /**
@@ -36,12 +41,10 @@ export class NavigationController {
                 document.body.insertBefore(navContainer, mainContent || document.body.firstChild);
             }
 
-            // Obtém seções antes de criar a view
+            // Obtém seções antes de criar a view (content:loaded é sticky: já carregado, resolve na hora)
             let sections = [];
             if (this.contentModel) {
-                if (!this.contentModel.isInitialized) {
-                    await this.contentModel.initializeContentModel();
-                }
+                await this.eventBus.when('content:loaded');
                 sections = this.contentModel.getAllSections();
             }
 
@@ -51,8 +54,10 @@ export class NavigationController {
                 sections
             });
 
-            await this.navigationView.init();
-            await this.navigationView.render();
+            await tracer.trace('navigation.render', async () => {
+                await this.navigationView.init();
+                await this.navigationView.render();
+            }, { category: 'render' });
 
             this.setupEventListeners();
 
@@ -73,7 +78,7 @@ export class NavigationController {
         window.addEventListener('scroll', this.onScroll);
         
         // Handle navigation clicks
-        this.eventBus.subscribe('navigation:clicked', this.handleNavigationClick.bind(this));
+        this.eventBus.subscribe('navigation:clicked', this.handleNavigationClick);
     }
 
     /**
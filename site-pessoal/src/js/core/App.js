@@ -1,8 +1,18 @@
 import eventBus from './EventBus.js';
+import { whenIdle } from './Scheduler.js';
+import tracer from './Tracer.js';
+
+/**
+ * Lifecycle/state announcements: retained by the EventBus, so components created
+ * later (lazy services, views) receive them on subscribe instead of missing them
+ */
+const STICKY_TOPICS = ['app:start', 'app:ready', 'content:loaded', 'user:loaded'];
 
 /**
  * @brief Main application coordinator
  * @description Manages the application lifecycle, services, and controllers.
+ *              Services and controllers form one dependency graph, initialized
+ *              concurrently where independent (see initializeGraph).
  */
 class App {
     /**
@@ -17,11 +27,20 @@ class App {
         this.services = new Map();
         this.isInitialized = false;
         this.eventBus = eventBus;
+        this.startupTimeline = [];
+        this.deferredReady = Promise.resolve();
+        this._nodes = new Map();
+        this._subscriberBaseline = null;
+        STICKY_TOPICS.forEach(topic => this.eventBus.sticky(topic));
     }
 
     /**
      * @brief Initialize the application.
-     * @description Sets up all services and controllers in the proper order.
+     * @description Builds the service/controller dependency graph and initializes it
+     *              (see initializeGraph), then starts the application. Resolves once
+     *              the critical nodes are ready; deferred ones finish in `deferredReady`.
+     *              Traced as `app.initialize` → `app.graph` (one span per node) and
+     *              `app.start`.
      * @returns {Promise<void>}
      */
     async initialize() {
@@ -32,13 +51,18 @@ class App {
 
         try {
             console.info('App: Starting application initialization...');
+            // Subscriptions that predate this run (see checkTeardown)
+            this._subscriberBaseline = this.eventBus.subscriberCounts();
             
-            await this.initializeServices();
-            await this.initializeControllers();
-            await this.start();
+            await tracer.trace('app.initialize', async (span) => {
+                await tracer.trace('app.graph', graph => this.initializeGraph(graph), { parent: span });
+                await tracer.trace('app.start', () => this.start(), { parent: span });
+            });
             
             this.isInitialized = true;
             console.info('App: Application initialized successfully. 🎉');
+
+            this.deferredReady = this.initializeDeferred();
             
         } catch (error) {
             console.error('App: Initialization failed:', error);
@@ -48,52 +72,257 @@ class App {
     }
 
     /**
-     * @brief Initialize all registered services.
+     * @brief Instantiate every service and controller and initialize the critical ones.
+     * @description Classes declare what they need with `static dependencies = [...]`
+     *              (names from config.services / config.controllers) and opt out of the
+     *              startup path with `static deferred = true`. Each node's init() starts
+     *              as soon as its dependencies resolved, so independent nodes run
+     *              concurrently. A deferred node that a critical node depends on is
+     *              initialized eagerly.
+     *
+     *              Services declaring `static lazy` are neither constructed nor
+     *              initialized here: the service map holds a proxy instead (see
+     *              createLazyProxy), activated on first use.
+     * @param {Object} [span] - Tracer span the node spans nest under
      * @returns {Promise<void>}
      */
-    async initializeServices() {
-        const services = this.config.services || {};
-        
-        for (const [serviceName, ServiceClass] of Object.entries(services)) {
-            try {
-                const serviceInstance = new ServiceClass({ eventBus: this.eventBus });
-                this.services.set(serviceName, serviceInstance);
-                
-                if (typeof serviceInstance.init === 'function') {
-                    await serviceInstance.init();
+    async initializeGraph(span = null) {
+        this._nodes = this.buildGraph();
+
+        // Services first: controllers receive the whole service map
+        this._nodes.forEach((node) => {
+            if (node.kind === 'service') this.services.set(node.name, this.instantiate(node));
+        });
+        this._nodes.forEach((node) => {
+            if (node.kind === 'controller') this.controllers.set(node.name, this.instantiate(node));
+        });
+
+        await Promise.all([...this._nodes.values()]
+            .filter(node => !node.deferred && !node.lazy)
+            .map(node => this.initializeNode(node, span)));
+    }
+
+    /**
+     * @brief Initialize the deferred nodes once the page is idle.
+     * @description Failures are logged, never thrown: these nodes are not needed to
+     *              render the page.
+     * @returns {Promise<void>}
+     */
+    async initializeDeferred() {
+        const deferred = [...this._nodes.values()].filter(node => node.deferred);
+        if (!deferred.length) return;
+
+        await whenIdle();
+        await tracer.trace('app.deferred', span => Promise.all(
+            deferred.map(node => this.initializeNode(node, span).catch(() => {}))));
+        console.info('App: Deferred initialization complete.');
+    }
+
+    /**
+     * @brief Build and validate the dependency graph.
+     * @returns {Map<string, Object>} name → node
+     * @throws {Error} On duplicate names, unknown dependencies or cycles
+     */
+    buildGraph() {
+        const nodes = new Map();
+        const add = (kind, entries) => Object.entries(entries || {}).forEach(([name, NodeClass]) => {
+            if (nodes.has(name)) throw new Error(`App: Duplicate service/controller name '${name}'.`);
+            nodes.set(name, {
+                name,
+                kind,
+                NodeClass,
+                dependencies: [...(NodeClass.dependencies || [])],
+                deferred: NodeClass.deferred === true,
+                lazy: kind === 'service' && NodeClass.lazy ? { events: [], domEvents: [], ...NodeClass.lazy } : null,
+                instance: null,
+                proxy: null,
+                triggers: [],
+                promise: null,
+            });
+        });
+        add('service', this.config.services);
+        add('controller', this.config.controllers);
+
+        nodes.forEach((node) => {
+            node.dependencies.forEach((dependency) => {
+                if (!nodes.has(dependency)) {
+                    throw new Error(`App: '${node.name}' depends on unknown '${dependency}'.`);
                 }
-                
-                console.info(`App: Service '${serviceName}' initialized.`);
-            } catch (error) {
-                console.error(`App: Failed to initialize service '${serviceName}':`, error);
-                throw error;
+            });
+        });
+
+        // Depth-first walk: detects cycles and promotes dependencies of critical nodes
+        const state = new Map(); // name → 'visiting' | 'done'
+        const visit = (node, path) => {
+            if (state.get(node.name) === 'done') return;
+            if (state.get(node.name) === 'visiting') {
+                throw new Error(`App: Dependency cycle: ${[...path, node.name].join(' → ')}.`);
             }
+            state.set(node.name, 'visiting');
+            node.dependencies.forEach(dependency => visit(nodes.get(dependency), [...path, node.name]));
+            state.set(node.name, 'done');
+        };
+        nodes.forEach(node => visit(node, []));
+
+        const promote = (node) => {
+            node.dependencies.forEach((dependency) => {
+                const target = nodes.get(dependency);
+                if (!target.deferred) return;
+                target.deferred = false;
+                promote(target);
+            });
+        };
+        nodes.forEach((node) => {
+            if (!node.deferred) promote(node);
+        });
+
+        return nodes;
+    }
+
+    /**
+     * @brief Instance (or lazy proxy) for a node, creating its dependencies first.
+     * @param {Object} node
+     * @returns {Object}
+     */
+    instantiate(node) {
+        if (node.instance || node.proxy) return node.instance || node.proxy;
+
+        node.dependencies.forEach(name => this.instantiate(this._nodes.get(name)));
+        if (node.lazy) {
+            node.proxy = this.createLazyProxy(node);
+            this.armLazyTriggers(node);
+            return node.proxy;
+        }
+        return this.construct(node);
+    }
+
+    /**
+     * @brief Construct a node with the shared event bus and its declared dependencies.
+     * @param {Object} node
+     * @returns {Object} The instance
+     */
+    construct(node) {
+        try {
+            const dependencies = node.kind === 'controller'
+                ? this.buildControllerDependencies(node.name)
+                : { eventBus: this.eventBus, ...this.resolveDependencies(node) };
+            node.instance = new node.NodeClass(dependencies);
+            return node.instance;
+        } catch (error) {
+            console.error(`App: Failed to create ${node.kind} '${node.name}':`, error);
+            throw error;
         }
     }
 
     /**
-     * @brief Initialize all registered controllers.
+     * @brief Stand-in for a lazy service until it is first used.
+     * @description Any member access (method call, property read or write, `in`)
+     *              constructs the service synchronously and starts its init(); methods
+     *              come back bound to the real instance. Holding the proxy (e.g. from
+     *              getService at setup time) costs nothing.
+     * @param {Object} node
+     * @returns {Proxy}
+     */
+    createLazyProxy(node) {
+        const activate = () => {
+            if (!node.instance) this.initializeNode(node).catch(() => {}); // logged by initializeNode
+            return node.instance;
+        };
+
+        return new Proxy({}, {
+            get: (target, property) => {
+                const instance = activate();
+                const value = Reflect.get(instance, property, instance);
+                return typeof value === 'function' ? value.bind(instance) : value;
+            },
+            set: (target, property, value) => Reflect.set(activate(), property, value),
+            has: (target, property) => property in activate(),
+        });
+    }
+
+    /**
+     * @brief Activate a lazy service on its first relevant event.
+     * @description `lazy.events` are EventBus topics, `lazy.domEvents` document events
+     *              (capture phase). For bus topics the service subscribes from init()
+     *              while the event is still being dispatched, so it receives the event
+     *              that woke it up as long as it has no dependencies and subscribes
+     *              before its first await.
+     * @param {Object} node
+     */
+    armLazyTriggers(node) {
+        const wake = () => {
+            if (!node.instance) this.initializeNode(node).catch(() => {});
+        };
+
+        node.lazy.events.forEach((eventName) => {
+            node.triggers.push(this.eventBus.subscribe(eventName, wake));
+        });
+        node.lazy.domEvents.forEach((type) => {
+            document.addEventListener(type, wake, { capture: true, passive: true });
+            node.triggers.push(() => document.removeEventListener(type, wake, { capture: true }));
+        });
+    }
+
+    /**
+     * @brief Remove a lazy node's activation listeners.
+     * @param {Object} node
+     */
+    disarmLazyTriggers(node) {
+        node.triggers.forEach(remove => remove());
+        node.triggers = [];
+    }
+
+    /**
+     * @brief Initialize a node after its dependencies (memoized per node).
+     * @description Lazy nodes are constructed here, synchronously, on activation.
+     *              init() runs inside a `<kind>.<name>` span (e.g. service.themeManager).
+     * @param {Object} node
+     * @param {Object} [parent] - Tracer span of the phase (dependencies share it)
      * @returns {Promise<void>}
      */
-    async initializeControllers() {
-        const controllers = this.config.controllers || {};
-        
-        for (const [controllerName, ControllerClass] of Object.entries(controllers)) {
+    initializeNode(node, parent = null) {
+        node.promise ??= (async () => {
+            if (!node.instance) {
+                this.disarmLazyTriggers(node);
+                this.construct(node);
+            }
+
+            // No dependencies: init() starts synchronously (lazy activation relies on it)
+            if (node.dependencies.length) {
+                await Promise.all(node.dependencies.map(name => this.initializeNode(this._nodes.get(name), parent)));
+            }
+
+            const entry = { name: node.name, kind: node.kind, deferred: node.deferred, lazy: Boolean(node.lazy),
+                dependencies: node.dependencies, start: performance.now(), end: null, status: 'running' };
+            this.startupTimeline.push(entry);
+
             try {
-                const dependencies = this.buildControllerDependencies(controllerName);
-                const controllerInstance = new ControllerClass(dependencies);
-                this.controllers.set(controllerName, controllerInstance);
-                
-                if (typeof controllerInstance.init === 'function') {
-                    await controllerInstance.init();
-                }
-                
-                console.info(`App: Controller '${controllerName}' initialized.`);
+                await tracer.trace(`${node.kind}.${node.name}`, () => {
+                    if (typeof node.instance.init === 'function') return node.instance.init();
+                }, { parent, category: node.kind, args: { deferred: node.deferred, lazy: Boolean(node.lazy) } });
+                entry.status = 'done';
+                console.info(`App: ${node.kind === 'service' ? 'Service' : 'Controller'} '${node.name}' initialized.`);
             } catch (error) {
-                console.error(`App: Failed to initialize controller '${controllerName}':`, error);
+                entry.status = 'failed';
+                console.error(`App: Failed to initialize ${node.kind} '${node.name}':`, error);
                 throw error;
+            } finally {
+                entry.end = performance.now();
             }
-        }
+        })();
+        return node.promise;
+    }
+
+    /**
+     * @brief Declared dependencies of a node, by name.
+     * @param {Object} node
+     * @returns {Object} name → instance
+     */
+    resolveDependencies(node) {
+        return Object.fromEntries(node.dependencies.map((name) => {
+            const dependency = this._nodes.get(name);
+            return [name, dependency.instance || dependency.proxy];
+        }));
     }
 
     /**
@@ -102,27 +331,37 @@ class App {
      * @returns {Object} An object containing the dependencies for the controller.
      */
     buildControllerDependencies(controllerName) {
-        const dependencies = {
+        return {
             eventBus: this.eventBus,
-            services: Object.fromEntries(this.services)
+            services: Object.fromEntries(this.services),
+            ...this.resolveDependencies(this._nodes.get(controllerName))
         };
+    }
 
-        // Example of providing specific dependencies based on controller needs
-        // You can expand this as your application grows.
-        if (controllerName === 'mainController' || controllerName === 'navigationController') {
-            dependencies.contentModel = this.services.get('contentModel');
-        }
-
-        return dependencies;
+    /**
+     * @brief Start/end of each node's init(), in start order.
+     * @description Times are performance.now() milliseconds (same origin as the
+     *              Performance timeline); `end` is null while a node is running.
+     * @returns {Array<{name: string, kind: string, deferred: boolean, lazy: boolean, dependencies: string[],
+     *          start: number, end: number|null, duration: number|null, status: string}>}
+     */
+    getStartupTimeline() {
+        return this.startupTimeline.map(entry => ({
+            ...entry,
+            dependencies: [...entry.dependencies],
+            duration: entry.end === null ? null : entry.end - entry.start
+        }));
     }
 
     /**
      * @brief Start the application's main logic.
+     * @description Publishes `app:ready` once the critical nodes are initialized
+     *              (sections keep revealing as they render, see ViewManager.hydrate).
      * @returns {Promise<void>}
      */
     async start() {
         this.eventBus.publish('app:start');
-        this.eventBus.publish('ui:loading:hide');
+        this.eventBus.publish('app:ready', { timeline: this.getStartupTimeline() });
         console.info('App: Application started.');
     }
 
@@ -137,6 +376,8 @@ class App {
 
     /**
      * @brief Get a service instance by name.
+     * @description Lazy services come back as their proxy: the service is created on
+     *              the first member access, not by this call.
      * @param {string} serviceName - The name of the service.
      * @returns {Object|null} The service instance or null if not found.
      */
@@ -160,7 +401,13 @@ class App {
             }
         }
         
-        for (const [, service] of this.services) {
+        for (const [name, service] of this.services) {
+            const node = this._nodes.get(name);
+            if (node?.lazy && !node.instance) {
+                // Never used: nothing to destroy, don't wake it up through the proxy
+                this.disarmLazyTriggers(node);
+                continue;
+            }
             if (typeof service.destroy === 'function') {
                 await service.destroy();
             }
@@ -168,10 +415,39 @@ class App {
         
         this.controllers.clear();
         this.services.clear();
+        this._nodes.clear();
         this.isInitialized = false;
         
+        // Announcements of this run must not be replayed to the next one
+        this.eventBus.forget();
+        // Whatever is still subscribed now survives the next initialize() as well
+        this.eventBus.checkpoint('shutdown');
+        this.checkTeardown();
+        
         console.info('App: Application shutdown complete.');
     }
+
+    /**
+     * @brief Compare subscriptions after shutdown with those before initialize()
+     * @description Every handler added by services and controllers must be gone once
+     *              they are destroyed: a topic left above its baseline has a destroy()
+     *              that misses an unsubscribe. Unlike EventBus#checkpoint this needs a
+     *              single cycle and runs with stats disabled.
+     * @returns {Object<string, {before: number, after: number}>} Topics left above baseline
+     */
+    checkTeardown() {
+        const baseline = this._subscriberBaseline || {};
+        const leftovers = {};
+        Object.entries(this.eventBus.subscriberCounts()).forEach(([eventName, after]) => {
+            const before = baseline[eventName] || 0;
+            if (after > before) leftovers[eventName] = { before, after };
+        });
+
+        Object.entries(leftovers).forEach(([eventName, { before, after }]) => {
+            console.warn(`App: '${eventName}' has ${after} handler(s) after shutdown, ${before} before initialize()`);
+        });
+        return leftovers;
+    }
 }
 
 export { App };
\ No newline at end of file
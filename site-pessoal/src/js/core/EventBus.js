@@ -1,71 +1,639 @@
 /**
  * @brief Global event bus for component communication
- * @description Implements publish-subscribe pattern for loose coupling between MVC components
+ * @description Implements publish-subscribe pattern for loose coupling between MVC components.
+ *
+ *              Topics are ':'-separated segments (`view:section:rendered`). Subscriptions
+ *              may use patterns:
+ *                - `*`  matches exactly one segment   (`performance:*` → `performance:metric`)
+ *                - `**` matches zero or more segments (`view:**` → `view`, `view:section:rendered`)
+ *
+ *              Subscriptions live in a segment trie. The handlers matching a topic are
+ *              resolved once, on its first publish, and cached as a dispatch list; the
+ *              cache is invalidated by subscribe/unsubscribe (only the topic's entry for
+ *              exact names, the whole cache for patterns). publish is then a walk over
+ *              the matching handlers, with no pattern matching.
+ *
+ *              publish() is synchronous. publishAsync() is the opt-in alternative for
+ *              frequent or low-value events: handlers run later, off the publisher's
+ *              call stack, in one of three priority lanes, and repeated events of the
+ *              same topic queued before the lane flushes are coalesced into one.
+ *
+ *              Topics declared with sticky() retain their last payload(s): a later
+ *              subscriber receives them on subscribe, so state announcements
+ *              (`content:loaded`, `app:start`) reach components created after the fact.
+ *
+ *              Instrumentation is off by default (enableStats()): per topic it counts
+ *              publishes and subscribers, times every handler into a fixed-bucket
+ *              histogram and keeps the slowest one. checkpoint() (App calls it on
+ *              shutdown) snapshots the subscriber counts and warns when a topic's count
+ *              only grows from one checkpoint to the next: a teardown path is leaking.
  */
+import { yieldToMain, whenIdle, afterNextPaint } from './Scheduler.js';
+
+const SEPARATOR = ':';
+const ANY_SEGMENT = '*';
+const ANY_SEGMENTS = '**';
+
+/**
+ * Async dispatch lanes → when each one flushes
+ *   user-blocking: next task (before the next frame when possible)
+ *   default:       once per frame, right after it is painted
+ *   background:    idle periods, dispatching only while the idle deadline lasts
+ */
+const LANES = {
+    'user-blocking': () => yieldToMain(),
+    'default':       () => afterNextPaint(),
+    'background':    () => whenIdle(),
+};
+
+/** Minimum idle time left (ms) to dispatch one more background event */
+const IDLE_BUDGET_MS = 1;
+
+/** Handler time histogram: upper bounds (ms) of each bucket; one more bucket for the overflow */
+const HISTOGRAM_BOUNDS_MS = [0.1, 0.25, 0.5, 1, 2, 4, 8, 16, 50];
+
+/** Consecutive checkpoints with a growing subscriber count before a leak is reported */
+const LEAK_CHECKPOINTS = 3;
+
+/** Whether a subscription name uses `*` / `**` */
+function isPattern(eventName) {
+    return eventName.split(SEPARATOR).some(segment => segment === ANY_SEGMENT || segment === ANY_SEGMENTS);
+}
+
+/** Trie node: literal children, the `*` and `**` branches, and the handlers ending here */
+function createNode() {
+    return { children: new Map(), any: null, rest: null, handlers: new Map() };
+}
+
 export class EventBus {
     constructor() {
-        this.events = new Map();
+        this.root = createNode();
+        this._dispatch = new Map(); // topic → subscription entries, in subscription order
+        this._seq = 0;              // subscription order
+        this._version = 0;          // bumped on every subscribe/unsubscribe
+        this._lanes = new Map(Object.keys(LANES).map(name => [name, { queue: new Map(), scheduled: false }]));
+        this._stats = null;         // see enableStats()
+        this._sticky = new Map();   // sticky topic → { limit, events: [{ data, seq }] }
+        this._publishSeq = 0;       // publish order (replays across topics follow it)
+        this.currentTopic = null;   // topic of the running handler (pattern subscribers, bridges)
     }
 
     /**
      * @brief Subscribe to an event
-     * @param {string} eventName - Name of the event to subscribe to
+     * @param {string} eventName - Name of the event (or pattern with `*` / `**`) to subscribe to
      * @param {Function} callback - Function to call when event is published
+     * @param {Object} [options]
+     * @param {boolean} [options.replay=true] - Receive the retained payloads of matching
+     *        sticky topics now (synchronously, oldest first)
      * @returns {Function} Unsubscribe function
      */
-    subscribe(eventName, callback) {
-        if (!this.events.has(eventName)) {
-            this.events.set(eventName, new Set());
+    subscribe(eventName, callback, { replay = true } = {}) {
+        const node = this._path(eventName, true);
+        if (!node.handlers.has(callback)) {
+            const entry = { callback, seq: ++this._seq, active: true };
+            node.handlers.set(callback, entry);
+            this._invalidate(eventName);
+            if (replay) this._replay(eventName, entry);
         }
-        
-        const eventSet = this.events.get(eventName);
-        eventSet.add(callback);
 
         return () => this.unsubscribe(eventName, callback);
     }
 
     /**
      * @brief Unsubscribe from an event
-     * @param {string} eventName - Name of the event to unsubscribe from
+     * @param {string} eventName - Name of the event (or pattern) to unsubscribe from
      * @param {Function} callback - Callback function to remove
      */
     unsubscribe(eventName, callback) {
-        if (this.events.has(eventName)) {
-            const eventSet = this.events.get(eventName);
-            eventSet.delete(callback);
-        }
+        const path = this._walk(eventName);
+        const node = path?.[path.length - 1];
+        const entry = node?.handlers.get(callback);
+        if (!entry) return;
+
+        entry.active = false; // skipped if a dispatch in progress still holds it
+        node.handlers.delete(callback);
+        this._prune(path, eventName);
+        this._invalidate(eventName);
     }
 
     /**
      * @brief Publish an event with data
+     * @description Handlers run in subscription order. As with a live Set, a handler
+     *              subscribed while the event is being dispatched (e.g. a lazily
+     *              created service) still receives it, and one unsubscribed before its
+     *              turn does not.
      * @param {string} eventName - Name of the event to publish
      * @param {*} data - Data to pass to subscribers
      */
     publish(eventName, data = null) {
-        if (this.events.has(eventName)) {
-            const eventSet = this.events.get(eventName);
-            eventSet.forEach(callback => {
-                try {
-                    callback(data);
-                } catch (error) {
-                    console.error(`Error in event handler for ${eventName}:`, error);
-                }
-            });
+        const list = this._dispatchList(eventName);
+        const record = this._stats && this._topicStats(eventName);
+        if (record) {
+            record.publishes++;
+            record.subscribers = list.length;
+        }
+
+        // Retained once dispatched: a handler subscribing meanwhile gets it as a newcomer, not a replay
+        const sticky = this._sticky.get(eventName);
+        const publishSeq = ++this._publishSeq;
+        try {
+            this._dispatchTo(list, eventName, data, record);
+        } finally {
+            if (sticky) this._retain(sticky, data, publishSeq);
         }
     }
 
+    /**
+     * @brief Publish an event asynchronously, in a priority lane
+     * @description Nothing is queued when the topic has no subscribers. Until the lane
+     *              flushes, another publishAsync with the same coalescing key replaces
+     *              the queued payload (it keeps its place in the queue) or, when
+     *              `coalesce` is a function, merges it: coalesce(previous, next).
+     * @param {string} eventName - Name of the event to publish
+     * @param {*} [data] - Data to pass to subscribers
+     * @param {Object} [options]
+     * @param {'user-blocking'|'default'|'background'} [options.priority='default']
+     * @param {boolean|Function} [options.coalesce=true] - false queues every event
+     * @param {string} [options.key=eventName] - Coalescing key (e.g. one per metric name)
+     */
+    publishAsync(eventName, data = null, { priority = 'default', coalesce = true, key = eventName } = {}) {
+        const lane = this._lanes.get(priority);
+        if (!lane) throw new TypeError(`EventBus: unknown priority '${priority}'`);
+        if (this._dispatchList(eventName).length === 0 && !this._sticky.has(eventName)) return;
+
+        const queueKey = coalesce ? key : Symbol(eventName);
+        const queued = lane.queue.get(queueKey);
+        const merge = typeof coalesce === 'function' ? coalesce : null;
+        if (this._stats) {
+            const record = this._topicStats(eventName);
+            record.queued++;
+            if (queued) record.coalesced++;
+        }
+        lane.queue.set(queueKey, {
+            eventName,
+            data: queued && merge ? merge(queued.data, data) : data,
+            merge,
+        });
+
+        if (!lane.scheduled) this._scheduleLane(priority, lane);
+    }
+
+    /**
+     * @brief Dispatch every queued async event now, highest priority first
+     * @description For teardown and tests; normal flushing is scheduled per lane.
+     */
+    flush() {
+        this._lanes.forEach(lane => this._drainLane(lane, null));
+    }
+
     /**
      * @brief Clear all events or specific event subscribers
-     * @param {string} [eventName] - Optional event name to clear
+     * @description Clearing everything also drops the retained payloads (see forget).
+     * @param {string} [eventName] - Optional event name (or pattern, as subscribed) to clear
      */
     clear(eventName = null) {
         if (eventName) {
-            this.events.delete(eventName);
+            const path = this._walk(eventName);
+            const node = path?.[path.length - 1];
+            if (!node || node.handlers.size === 0) return;
+            node.handlers.forEach((entry) => { entry.active = false; });
+            node.handlers.clear();
+            this._prune(path, eventName);
+            this._invalidate(eventName);
+        } else {
+            this.root = createNode();
+            this._dispatch.clear();
+            this._lanes.forEach(lane => lane.queue.clear());
+            this.forget();
+            this._version++;
+        }
+    }
+
+    /**
+     * @brief Whether publishing a topic would reach any handler
+     * @param {string} eventName - Concrete topic
+     * @returns {boolean}
+     */
+    hasSubscribers(eventName) {
+        return this._dispatchList(eventName).length > 0;
+    }
+
+    /**
+     * @brief Declare a sticky topic
+     * @description Its last `replay` payloads are retained (oldest dropped first) and
+     *              replayed to every new subscriber, exact or by pattern, right when it
+     *              subscribes. Declaring an already sticky topic only changes the limit.
+     * @param {string} eventName - Concrete topic (no `*` / `**`)
+     * @param {Object} [options]
+     * @param {number} [options.replay=1] - Payloads retained
+     */
+    sticky(eventName, { replay = 1 } = {}) {
+        if (isPattern(eventName)) throw new TypeError(`EventBus: sticky topic '${eventName}' cannot be a pattern`);
+        if (!(replay >= 1)) throw new RangeError('EventBus: replay must be at least 1');
+
+        const topic = this._sticky.get(eventName);
+        if (topic) {
+            topic.limit = replay;
+            topic.events.splice(0, Math.max(0, topic.events.length - replay));
+        } else {
+            this._sticky.set(eventName, { limit: replay, events: [] });
+        }
+    }
+
+    /**
+     * @brief Latest payload of a sticky topic, now or when next published
+     * @param {string} eventName
+     * @returns {Promise<*>}
+     */
+    when(eventName) {
+        const events = this._sticky.get(eventName)?.events;
+        if (events?.length) return Promise.resolve(events[events.length - 1].data);
+
+        return new Promise((resolve) => {
+            const once = (data) => {
+                this.unsubscribe(eventName, once);
+                resolve(data);
+            };
+            this.subscribe(eventName, once, { replay: false });
+        });
+    }
+
+    /**
+     * @brief Retained payloads of a sticky topic, oldest first
+     * @param {string} eventName
+     * @returns {Array}
+     */
+    getRetained(eventName) {
+        return (this._sticky.get(eventName)?.events || []).map(event => event.data);
+    }
+
+    /**
+     * @brief Drop retained payloads (the topics stay sticky)
+     * @param {string} [eventName] - All sticky topics when omitted
+     */
+    forget(eventName = null) {
+        if (eventName) {
+            const topic = this._sticky.get(eventName);
+            if (topic) topic.events = [];
+        } else {
+            this._sticky.forEach((topic) => { topic.events = []; });
+        }
+    }
+
+    /**
+     * @brief Start recording per-topic stats (see getStats)
+     * @description Adds two performance.now() calls per handler; meant for dev builds
+     *              and profiling sessions.
+     */
+    enableStats() {
+        if (!this._stats) this.resetStats();
+    }
+
+    /**
+     * @brief Stop recording and drop what was recorded
+     */
+    disableStats() {
+        this._stats = null;
+    }
+
+    /**
+     * @brief Restart recording from zero (topic stats and leak history)
+     */
+    resetStats() {
+        this._stats = { since: performance.now(), topics: new Map(), subscribers: new Map() };
+    }
+
+    /**
+     * @brief Recorded stats
+     * @returns {Object|null} null when disabled; otherwise
+     *          `{ since, histogramBoundsMs, topics: { [topic]: {publishes, subscribers,
+     *          calls, errors, totalMs, meanMs, maxMs, histogram, slowest, queued,
+     *          coalesced, replays} }, leaks: [{ eventName, counts, labels }] }`.
+     *          histogram[i] counts handler runs up to histogramBoundsMs[i] ms; the
+     *          last entry counts the slower ones.
+     */
+    getStats() {
+        if (!this._stats) return null;
+
+        const topics = {};
+        this._stats.topics.forEach((record, topic) => {
+            topics[topic] = {
+                ...record,
+                meanMs: record.calls ? record.totalMs / record.calls : 0,
+                histogram: [...record.histogram],
+                slowest: record.slowest && { ...record.slowest },
+            };
+        });
+
+        const leaks = [];
+        this._stats.subscribers.forEach(({ counts, labels, leaking }, eventName) => {
+            if (leaking) leaks.push({ eventName, counts: [...counts], labels: [...labels] });
+        });
+
+        return { since: this._stats.since, histogramBoundsMs: [...HISTOGRAM_BOUNDS_MS], topics, leaks };
+    }
+
+    /**
+     * @brief Handler count per subscribed name (or pattern), right now
+     * @returns {Object<string, number>}
+     */
+    subscriberCounts() {
+        const counts = {};
+        this._countHandlers(this.root, [], counts);
+        return counts;
+    }
+
+    /**
+     * @brief Snapshot subscriber counts and report topics that keep growing
+     * @description Call at equivalent points of a repeated lifecycle (App does it at
+     *              the end of shutdown). A topic whose handler count grew at each of
+     *              the last LEAK_CHECKPOINTS checkpoints is logged once and listed in
+     *              getStats().leaks. No-op while stats are disabled.
+     * @param {string} [label] - Shown in the report (e.g. 'shutdown')
+     * @returns {Object|null} Handler count per subscribed name (or pattern)
+     */
+    checkpoint(label = 'checkpoint') {
+        if (!this._stats) return null;
+
+        const current = this.subscriberCounts();
+
+        const history = this._stats.subscribers;
+        new Set([...history.keys(), ...Object.keys(current)]).forEach((eventName) => {
+            const count = current[eventName] || 0;
+            const entry = history.get(eventName) || { counts: [], labels: [], growth: 0, leaking: false };
+            const previous = entry.counts[entry.counts.length - 1];
+
+            entry.growth = previous !== undefined && count > previous ? entry.growth + 1 : 0;
+            entry.counts = [...entry.counts, count].slice(-LEAK_CHECKPOINTS);
+            entry.labels = [...entry.labels, label].slice(-LEAK_CHECKPOINTS);
+            history.set(eventName, entry);
+
+            if (entry.growth >= LEAK_CHECKPOINTS - 1 && !entry.leaking) {
+                entry.leaking = true;
+                console.warn(`EventBus: subscribers of '${eventName}' grew at every checkpoint `
+                    + `(${entry.counts.join(' → ')}): a teardown path is not unsubscribing`);
+            }
+        });
+
+        return current;
+    }
+
+    /**
+     * @brief Record a sticky topic's payload, keeping publish order and the limit
+     */
+    _retain(topic, data, seq) {
+        const { events } = topic;
+        let index = events.length;
+        while (index > 0 && events[index - 1].seq > seq) index--; // published re-entrantly
+        events.splice(index, 0, { data, seq });
+        if (events.length > topic.limit) events.splice(0, events.length - topic.limit);
+    }
+
+    /**
+     * @brief Deliver to a new subscription the retained payloads it matches
+     */
+    _replay(eventName, entry) {
+        let pending;
+        if (!isPattern(eventName)) {
+            pending = (this._sticky.get(eventName)?.events || []).map(event => ({ topic: eventName, ...event }));
         } else {
-            this.events.clear();
+            pending = [];
+            this._sticky.forEach(({ events }, topic) => {
+                if (events.length && this._dispatchList(topic).includes(entry)) {
+                    events.forEach(event => pending.push({ topic, ...event }));
+                }
+            });
+            pending.sort((a, b) => a.seq - b.seq);
+        }
+
+        pending.forEach(({ topic, data }) => {
+            const record = this._stats && this._topicStats(topic);
+            if (record) record.replays++;
+            this._invoke(entry, topic, data, record);
+        });
+    }
+
+    /**
+     * @brief Stats record of a topic, created on first use
+     */
+    _topicStats(topic) {
+        let record = this._stats.topics.get(topic);
+        if (!record) {
+            record = {
+                publishes: 0, subscribers: 0, calls: 0, errors: 0,
+                totalMs: 0, maxMs: 0,
+                histogram: new Array(HISTOGRAM_BOUNDS_MS.length + 1).fill(0),
+                slowest: null,
+                queued: 0, coalesced: 0, replays: 0,
+            };
+            this._stats.topics.set(topic, record);
         }
+        return record;
+    }
+
+    _recordHandler(record, callback, ms, failed) {
+        record.calls++;
+        if (failed) record.errors++;
+        record.totalMs += ms;
+        let bucket = HISTOGRAM_BOUNDS_MS.findIndex(bound => ms <= bound);
+        if (bucket === -1) bucket = HISTOGRAM_BOUNDS_MS.length;
+        record.histogram[bucket]++;
+        if (ms > record.maxMs) {
+            record.maxMs = ms;
+            record.slowest = { handler: callback.name || '(anonymous)', ms };
+        }
+    }
+
+    /**
+     * @brief Handler count per subscribed name/pattern under a trie node
+     */
+    _countHandlers(node, segments, counts) {
+        if (node.handlers.size) counts[segments.join(SEPARATOR)] = node.handlers.size;
+        node.children.forEach((child, segment) => this._countHandlers(child, [...segments, segment], counts));
+        if (node.any) this._countHandlers(node.any, [...segments, ANY_SEGMENT], counts);
+        if (node.rest) this._countHandlers(node.rest, [...segments, ANY_SEGMENTS], counts);
+    }
+
+    _scheduleLane(priority, lane) {
+        lane.scheduled = true;
+        LANES[priority]().then((deadline) => {
+            // Still scheduled while draining: events published by handlers only queue,
+            // and the lane is rescheduled once below rather than by each publishAsync
+            try {
+                this._drainLane(lane, priority === 'background' ? deadline : null);
+            } finally {
+                lane.scheduled = false;
+                if (lane.queue.size) this._scheduleLane(priority, lane);
+            }
+        });
+    }
+
+    /**
+     * @brief Dispatch a lane's queue (all of it, or while the idle deadline lasts)
+     * @description Events published from handlers during the drain go to the next
+     *              flush; leftovers of an expired deadline stay ahead of them.
+     */
+    _drainLane(lane, deadline) {
+        const batch = lane.queue;
+        lane.queue = new Map();
+
+        let dispatched = 0;
+        for (const [queueKey, { eventName, data }] of batch) {
+            if (deadline && dispatched > 0 && !deadline.didTimeout && deadline.timeRemaining() < IDLE_BUDGET_MS) break;
+            batch.delete(queueKey);
+            this.publish(eventName, data);
+            dispatched++;
+        }
+
+        if (batch.size === 0) return;
+        lane.queue.forEach((item, queueKey) => {
+            const previous = batch.get(queueKey);
+            batch.set(queueKey, previous && item.merge ? { ...item, data: item.merge(previous.data, item.data) } : item);
+        });
+        lane.queue = batch;
+    }
+
+    /**
+     * @brief Run a dispatch list, then any handler subscribed to the topic meanwhile
+     */
+    _dispatchTo(list, eventName, data, record) {
+        if (list.length === 0) return;
+
+        const startSeq = this._seq;
+        let version = this._version;
+        list.forEach(entry => this._invoke(entry, eventName, data, record));
+        if (version === this._version) return;
+
+        // Subscriptions changed mid-dispatch: deliver to the matching newcomers
+        const delivered = new Set(list);
+        while (version !== this._version) {
+            version = this._version;
+            this._dispatchList(eventName).forEach((entry) => {
+                if (entry.seq <= startSeq || delivered.has(entry)) return;
+                delivered.add(entry);
+                this._invoke(entry, eventName, data, record);
+            });
+        }
+    }
+
+    /**
+     * @brief Run one handler, isolating its errors from the publisher
+     */
+    _invoke(entry, eventName, data, record = null) {
+        if (!entry.active) return;
+        const start = record ? performance.now() : 0;
+        const outerTopic = this.currentTopic;
+        let failed = false;
+        this.currentTopic = eventName;
+        try {
+            entry.callback(data);
+        } catch (error) {
+            failed = true;
+            console.error(`Error in event handler for ${eventName}:`, error);
+        } finally {
+            this.currentTopic = outerTopic;
+        }
+        if (record) this._recordHandler(record, entry.callback, performance.now() - start, failed);
+    }
+
+    /**
+     * @brief Cached subscription entries matching a concrete topic
+     * @param {string} topic
+     * @returns {Array<{callback: Function, seq: number, active: boolean}>}
+     */
+    _dispatchList(topic) {
+        let list = this._dispatch.get(topic);
+        if (!list) {
+            const matched = new Set();
+            this._match(this.root, topic.split(SEPARATOR), 0, matched);
+            list = [...matched].sort((a, b) => a.seq - b.seq);
+            this._dispatch.set(topic, list);
+        }
+        return list;
+    }
+
+    /**
+     * @brief Collect the entries of every trie node matching segments[index..]
+     */
+    _match(node, segments, index, matched) {
+        if (node.rest) {
+            // `**` consumes zero or more of the remaining segments
+            for (let next = index; next <= segments.length; next++) {
+                this._match(node.rest, segments, next, matched);
+            }
+        }
+
+        if (index === segments.length) {
+            node.handlers.forEach(entry => matched.add(entry));
+            return;
+        }
+
+        const child = node.children.get(segments[index]);
+        if (child) this._match(child, segments, index + 1, matched);
+        if (node.any) this._match(node.any, segments, index + 1, matched);
+    }
+
+    /**
+     * @brief Trie node for a topic or pattern
+     * @param {string} eventName
+     * @param {boolean} create - Create missing nodes
+     * @returns {Object|null}
+     */
+    _path(eventName, create) {
+        const path = this._walk(eventName, create);
+        return path ? path[path.length - 1] : null;
+    }
+
+    /**
+     * @brief Nodes from the root to the topic's node (null if missing and !create)
+     */
+    _walk(eventName, create = false) {
+        if (typeof eventName !== 'string' || eventName === '') {
+            throw new TypeError('EventBus: event name must be a non-empty string');
+        }
+
+        const path = [this.root];
+        for (const segment of eventName.split(SEPARATOR)) {
+            const node = path[path.length - 1];
+            let next;
+            if (segment === ANY_SEGMENTS) next = node.rest || (create ? (node.rest = createNode()) : null);
+            else if (segment === ANY_SEGMENT) next = node.any || (create ? (node.any = createNode()) : null);
+            else {
+                next = node.children.get(segment);
+                if (!next && create) node.children.set(segment, (next = createNode()));
+            }
+            if (!next) return null;
+            path.push(next);
+        }
+        return path;
+    }
+
+    /**
+     * @brief Drop trie nodes left without handlers or children
+     */
+    _prune(path, eventName) {
+        const segments = eventName.split(SEPARATOR);
+        for (let i = path.length - 1; i > 0; i--) {
+            const node = path[i];
+            if (node.handlers.size || node.children.size || node.any || node.rest) return;
+
+            const parent = path[i - 1];
+            const segment = segments[i - 1];
+            if (segment === ANY_SEGMENTS) parent.rest = null;
+            else if (segment === ANY_SEGMENT) parent.any = null;
+            else parent.children.delete(segment);
+        }
+    }
+
+    /**
+     * @brief Drop cached dispatch lists affected by a (un)subscription
+     */
+    _invalidate(eventName) {
+        this._version++;
+        if (isPattern(eventName)) this._dispatch.clear();
+        else this._dispatch.delete(eventName);
     }
 }
 
 // Singleton instance (exportado como padrão)
-export default new EventBus();
\ No newline at end of file
+export default new EventBus();
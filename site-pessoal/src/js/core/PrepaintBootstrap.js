@@ -0,0 +1,82 @@
+/**
+ * @file PrepaintBootstrap.js
+ * @brief Persisted theme/accessibility preferences, applied before first paint.
+ * @description `applyPersistedPreferences` is never imported by the app at runtime:
+ *              plugins/prepaintBootstrap.js serializes it (Function#toString) into an
+ *              inline <head> script, so it must stay self-contained — no references to
+ *              anything outside its own body and its `config` argument.
+ *
+ *              The script runs before <body> exists and performs one batched write on
+ *              <html>: class (theme + a11y flags), data-theme, inline font-size, and the
+ *              active theme's stylesheet link. ThemeManager and AccessibilityManager then
+ *              adopt that state (readPrepaintState) instead of re-applying it.
+ */
+
+/** localStorage keys shared by the bootstrap and the services */
+export const PREFERENCE_KEYS = {
+    theme:         'app-theme',
+    fontSize:      'fontSize',
+    highContrast:  'highContrast',
+    reducedMotion: 'reducedMotion'
+};
+
+/** Classes toggled on <html> by the accessibility preferences */
+export const A11Y_CLASSES = {
+    highContrast:  'high-contrast',
+    reducedMotion: 'reduced-motion'
+};
+
+/** Marker attribute set on <html> once the bootstrap ran */
+export const PREPAINT_ATTRIBUTE = 'data-prepaint';
+
+/**
+ * @brief Apply persisted preferences in a single write (inlined in <head>)
+ * @param {Object} config
+ * @param {Object} config.keys         - PREFERENCE_KEYS
+ * @param {Object} config.classes      - A11Y_CLASSES
+ * @param {string} config.marker       - PREPAINT_ATTRIBUTE
+ * @param {Object} config.stylesheets  - theme → stylesheet URL
+ * @param {string} config.defaultTheme
+ */
+export function applyPersistedPreferences(config) {
+    var read = function (key) {
+        try { return localStorage.getItem(key); } catch (e) { return null; }
+    };
+    var root = document.documentElement;
+
+    var theme = read(config.keys.theme);
+    if (!config.stylesheets[theme]) theme = config.defaultTheme;
+
+    var classes = [theme];
+    if (read(config.keys.highContrast) === 'true') classes.push(config.classes.highContrast);
+    if (read(config.keys.reducedMotion) === 'true') classes.push(config.classes.reducedMotion);
+    var fontSize = parseInt(read(config.keys.fontSize), 10);
+
+    root.className = classes.join(' ');
+    root.setAttribute('data-theme', theme);
+    if (fontSize > 0 && fontSize !== 100) root.style.fontSize = fontSize + '%';
+    root.setAttribute(config.marker, '');
+
+    var link = document.createElement('link');
+    link.rel = 'stylesheet';
+    link.href = config.stylesheets[theme];
+    link.setAttribute('data-theme-sheet', theme);
+    document.head.appendChild(link);
+}
+
+/**
+ * @brief Read back what the bootstrap applied
+ * @returns {{theme: string, fontSize: number, highContrast: boolean, reducedMotion: boolean}|null}
+ *          null when the bootstrap did not run (e.g. page without the inline script)
+ */
+export function readPrepaintState() {
+    const root = document.documentElement;
+    if (!root.hasAttribute(PREPAINT_ATTRIBUTE)) return null;
+
+    return {
+        theme:         root.getAttribute('data-theme'),
+        fontSize:      parseInt(root.style.fontSize, 10) || 100,
+        highContrast:  root.classList.contains(A11Y_CLASSES.highContrast),
+        reducedMotion: root.classList.contains(A11Y_CLASSES.reducedMotion)
+    };
+}
@@ -0,0 +1,63 @@
+/**
+ * @brief Main-thread yielding primitives
+ * @description Lets long-running work (section rendering, chunked content) give the
+ *              browser a chance to handle input and paint between steps.
+ *              Each primitive degrades gracefully: scheduler.yield → MessageChannel,
+ *              requestIdleCallback → MessageChannel, requestAnimationFrame → MessageChannel.
+ */
+
+const pending = [];
+let channel = null;
+
+/**
+ * @brief Resolve on the next macrotask via a shared MessageChannel
+ * @description Unlike setTimeout(0) it is not clamped to 4ms after nesting.
+ * @returns {Promise<void>}
+ */
+function nextTask() {
+    if (!channel) {
+        channel = new MessageChannel();
+        channel.port1.onmessage = () => pending.shift()?.();
+    }
+    return new Promise(resolve => {
+        pending.push(resolve);
+        channel.port2.postMessage(null);
+    });
+}
+
+/**
+ * @brief Yield to the main thread, keeping the continuation's priority when possible
+ * @returns {Promise<void>}
+ */
+export function yieldToMain() {
+    if (typeof globalThis.scheduler?.yield === 'function') {
+        return globalThis.scheduler.yield();
+    }
+    return nextTask();
+}
+
+/**
+ * @brief Wait for an idle period
+ * @param {number} [timeout=500] - Upper bound in ms so work still progresses on busy pages
+ * @returns {Promise<IdleDeadline|void>}
+ */
+export function whenIdle(timeout = 500) {
+    if (typeof globalThis.requestIdleCallback === 'function') {
+        return new Promise(resolve => globalThis.requestIdleCallback(resolve, { timeout }));
+    }
+    return nextTask();
+}
+
+/**
+ * @brief Resolve right after the next frame is painted
+ * @description requestAnimationFrame runs just before paint; the extra task lands
+ *              after it, so work queued here never delays the frame it waits for.
+ *              Calls made within the same frame resolve together.
+ * @returns {Promise<void>}
+ */
+export function afterNextPaint() {
+    if (typeof globalThis.requestAnimationFrame === 'function') {
+        return new Promise(resolve => globalThis.requestAnimationFrame(() => nextTask().then(resolve)));
+    }
+    return nextTask();
+}
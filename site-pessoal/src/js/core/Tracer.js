@@ -0,0 +1,280 @@
+/**
+ * @brief Startup/lifecycle tracing on top of the User Timing API
+ * @description Each span becomes a `performance.mark` pair and a `performance.measure`
+ *              (names prefixed `site:`), so phases show up in the DevTools Performance
+ *              panel next to the browser's own entries. Finished spans are also kept
+ *              in memory for PerformanceMonitor and can be exported as Chrome
+ *              trace-event JSON (chrome://tracing, Perfetto, DevTools "Load profile").
+ *
+ *              Nesting is explicit (`parent` option or span.child()). Without it, a
+ *              span's parent is the span whose trace() callback is running
+ *              synchronously: async code keeps that parent only for spans started
+ *              before its first await.
+ */
+
+/** Finished spans kept in memory (oldest dropped first) */
+const MAX_SPANS = 1000;
+
+/**
+ * @brief One traced phase
+ */
+class Span {
+    constructor(tracer, id, name, { category = 'app', parent = null, args = {}, startTime } = {}) {
+        this.tracer = tracer;
+        this.id = id;
+        this.name = name;
+        this.category = category;
+        this.parent = parent;
+        this.args = { ...args };
+        this.start = startTime ?? performance.now();
+        this.end = null;
+        this.status = 'running';
+    }
+
+    /**
+     * @brief Start a nested span
+     * @param {string} name
+     * @param {Object} [options] - Same as Tracer#start (parent is this span)
+     * @returns {Span}
+     */
+    child(name, options = {}) {
+        return this.tracer.start(name, { ...options, parent: this });
+    }
+
+    /**
+     * @brief Close the span (idempotent)
+     * @param {Object} [args] - Merged into the span's args
+     * @param {string} [status='done']
+     * @returns {Span}
+     */
+    finish(args = {}, status = 'done') {
+        if (this.end !== null) return this;
+        this.end = performance.now();
+        this.status = status;
+        Object.assign(this.args, args);
+        this.tracer._record(this);
+        return this;
+    }
+
+    get duration() {
+        return this.end === null ? null : this.end - this.start;
+    }
+
+    /**
+     * @brief Plain snapshot (what listeners and getSpans() receive)
+     * @returns {Object}
+     */
+    toJSON() {
+        return {
+            id: this.id,
+            name: this.name,
+            category: this.category,
+            parentId: this.parent ? this.parent.id : null,
+            start: this.start,
+            end: this.end,
+            duration: this.duration,
+            status: this.status,
+            args: { ...this.args }
+        };
+    }
+}
+
+export class Tracer {
+    /**
+     * @param {Object} [options]
+     * @param {string} [options.prefix='site'] - User Timing name prefix
+     */
+    constructor({ prefix = 'site' } = {}) {
+        this.prefix = prefix;
+        this.spans = [];
+        this.listeners = new Set();
+        this._stack = [];
+        this._nextId = 1;
+    }
+
+    /**
+     * @brief Open a span
+     * @param {string} name - e.g. 'app.initialize', 'service.themeManager'
+     * @param {Object} [options]
+     * @param {string} [options.category='app']
+     * @param {Span|null} [options.parent] - Defaults to the synchronously running trace()
+     * @param {Object} [options.args] - Extra data (ends up in measure detail and the export)
+     * @param {number} [options.startTime] - Backdate the span (performance.now() ms)
+     * @returns {Span}
+     */
+    start(name, options = {}) {
+        const parent = options.parent !== undefined ? options.parent : this._stack[this._stack.length - 1] || null;
+        const span = new Span(this, this._nextId++, name, { ...options, parent });
+        this._mark(`${name}:start`, span.start, span);
+        return span;
+    }
+
+    /**
+     * @brief Run fn inside a span, closing it when fn returns or settles
+     * @param {string} name
+     * @param {Function} fn - Receives the span; may return a promise
+     * @param {Object} [options] - Same as start()
+     * @returns {*} fn's result
+     */
+    trace(name, fn, options = {}) {
+        const span = this.start(name, options);
+        this._stack.push(span);
+        let result;
+        try {
+            result = fn(span);
+        } catch (error) {
+            span.finish({ error: String(error?.message || error) }, 'failed');
+            throw error;
+        } finally {
+            this._stack.pop();
+        }
+
+        if (result && typeof result.then === 'function') {
+            return result.then(
+                (value) => { span.finish(); return value; },
+                (error) => { span.finish({ error: String(error?.message || error) }, 'failed'); throw error; }
+            );
+        }
+        span.finish();
+        return result;
+    }
+
+    /**
+     * @brief Instant event (a single mark, no duration)
+     * @param {string} name
+     * @param {Object} [args]
+     */
+    mark(name, args = {}) {
+        const span = new Span(this, this._nextId++, name, { category: 'mark', parent: null, args });
+        span.end = span.start;
+        span.status = 'instant';
+        this._mark(name, span.start, span);
+        this._store(span);
+    }
+
+    /**
+     * @brief Be notified of every finished span (and instant mark)
+     * @param {Function} listener - Receives the span snapshot
+     * @returns {Function} Unsubscribe function
+     */
+    onSpan(listener) {
+        this.listeners.add(listener);
+        return () => this.listeners.delete(listener);
+    }
+
+    /**
+     * @brief Finished spans, oldest first
+     * @returns {Object[]} Snapshots (see Span#toJSON)
+     */
+    getSpans() {
+        return this.spans.map(span => span.toJSON());
+    }
+
+    /**
+     * @brief Chrome trace-event format ("X" complete events, "I" instant events)
+     * @description A thread track only shows properly nested events, so a span shares
+     *              a track only with its ancestors: concurrent siblings (services
+     *              initialized in parallel) get tracks of their own.
+     * @param {Object[]} [spans] - Snapshots to export (defaults to getSpans())
+     * @returns {{traceEvents: Object[], displayTimeUnit: string}}
+     */
+    toChromeTrace(spans = this.getSpans()) {
+        const toMicros = ms => Math.round(ms * 1000);
+        const tracks = []; // each: stack of open { id, end }
+        const trackOf = new Map(); // span id → track index
+        const parentOf = new Map(spans.map(span => [span.id, span.parentId]));
+
+        const isAncestor = (id, span) => {
+            for (let current = span.parentId; current !== null && current !== undefined; current = parentOf.get(current)) {
+                if (current === id) return true;
+            }
+            return false;
+        };
+        const fits = (track, span) => {
+            while (track.length && track[track.length - 1].end <= span.start) track.pop();
+            const top = track[track.length - 1];
+            return !top || (top.end >= span.end && isAncestor(top.id, span));
+        };
+
+        const ordered = [...spans].sort((a, b) => a.start - b.start || b.end - a.end);
+        const traceEvents = ordered.map((span) => {
+            const preferred = trackOf.get(span.parentId);
+            let index = preferred !== undefined && fits(tracks[preferred], span) ? preferred
+                : tracks.findIndex(track => fits(track, span));
+            if (index === -1) index = tracks.push([]) - 1;
+            tracks[index].push({ id: span.id, end: span.end });
+            trackOf.set(span.id, index);
+
+            const event = {
+                name: span.name,
+                cat: span.category,
+                ph: span.status === 'instant' ? 'I' : 'X',
+                ts: toMicros(span.start),
+                pid: 1,
+                tid: index + 1,
+                args: { ...span.args, id: span.id, parentId: span.parentId, status: span.status }
+            };
+            if (event.ph === 'X') event.dur = toMicros(span.duration);
+            else event.s = 'g';
+            return event;
+        });
+
+        const metadata = tracks.map((track, index) => ({
+            name: 'thread_name', ph: 'M', pid: 1, tid: index + 1, args: { name: `${this.prefix} ${index + 1}` }
+        }));
+
+        return { traceEvents: [...metadata, ...traceEvents], displayTimeUnit: 'ms' };
+    }
+
+    /**
+     * @brief Forget finished spans (User Timing entries are left to the page)
+     */
+    clear() {
+        this.spans = [];
+    }
+
+    _record(span) {
+        this._mark(`${span.name}:end`, span.end, span);
+        this._measure(span);
+        this._store(span);
+    }
+
+    _store(span) {
+        this.spans.push(span);
+        if (this.spans.length > MAX_SPANS) this.spans.shift();
+
+        const snapshot = span.toJSON();
+        this.listeners.forEach((listener) => {
+            try {
+                listener(snapshot);
+            } catch (error) {
+                console.error('Tracer: span listener failed', error);
+            }
+        });
+    }
+
+    _mark(name, startTime, span) {
+        if (typeof performance?.mark !== 'function') return;
+        try {
+            performance.mark(`${this.prefix}:${name}`, { startTime, detail: { id: span.id, category: span.category } });
+        } catch {
+            // User Timing Level 3 unsupported: the in-memory span is enough
+        }
+    }
+
+    _measure(span) {
+        if (typeof performance?.measure !== 'function') return;
+        try {
+            performance.measure(`${this.prefix}:${span.name}`, {
+                start: span.start,
+                end: span.end,
+                detail: { id: span.id, parentId: span.parent ? span.parent.id : null, category: span.category, ...span.args }
+            });
+        } catch {
+            // see _mark
+        }
+    }
+}
+
+// Singleton instance (exportado como padrão)
+export default new Tracer();
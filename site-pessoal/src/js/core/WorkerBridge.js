@@ -0,0 +1,124 @@
+/**
+ * @brief EventBus transport across a postMessage boundary (Web Worker, MessagePort)
+ * @description bridge() connects two EventBus instances, one on each side of the
+ *              port: events published locally on the forwarded topics (names or
+ *              patterns) are posted to the other side, which publishes them on its own
+ *              bus. Payloads go through structured clone, so they must be plain data
+ *              (no functions, DOM nodes or class instances).
+ *
+ *              Events are batched: everything published within one task is posted as a
+ *              single message once the current microtasks settle.
+ *
+ *              request()/respond() layer call/reply on top of it: the reply to topic
+ *              `T` is published as `T:done` with the request's id.
+ */
+
+const MESSAGE_TYPE = 'eventbus:batch';
+
+/** Reply topic suffix (see respond) */
+const DONE_SUFFIX = 'done';
+
+/** How long request() waits for the reply by default (ms) */
+const REQUEST_TIMEOUT_MS = 3000;
+
+let nextRequestId = 1;
+
+/**
+ * @brief Connect an EventBus to the other side of a port
+ * @param {EventBus} eventBus - Local bus
+ * @param {Worker|MessagePort|DedicatedWorkerGlobalScope} port - Has postMessage and
+ *        addEventListener('message')
+ * @param {Object} [options]
+ * @param {string[]} [options.forward=[]] - Local topics/patterns posted to the other side
+ * @returns {{close: Function}} close() stops forwarding and receiving
+ */
+export function bridge(eventBus, port, { forward = [] } = {}) {
+    let outbox = [];
+    let relaying = false; // publishing what came from the port: never sent back
+
+    const flush = () => {
+        const events = outbox;
+        outbox = [];
+        try {
+            port.postMessage({ type: MESSAGE_TYPE, events });
+        } catch (error) {
+            // DataCloneError: one payload in the batch is not plain data
+            console.error('WorkerBridge: could not post events', events.map(([topic]) => topic), error);
+        }
+    };
+
+    const unsubscribers = forward.map(pattern => eventBus.subscribe(pattern, function relay(data) {
+        if (relaying) return;
+        if (outbox.length === 0) queueMicrotask(flush);
+        // Patterns need the concrete topic: handlers only receive the payload
+        outbox.push([eventBus.currentTopic ?? pattern, data]);
+    }, { replay: false }));
+
+    const onMessage = ({ data: message }) => {
+        if (message?.type !== MESSAGE_TYPE) return;
+        relaying = true;
+        try {
+            message.events.forEach(([topic, data]) => eventBus.publish(topic, data));
+        } finally {
+            relaying = false;
+        }
+    };
+    port.addEventListener('message', onMessage);
+    port.start?.(); // MessagePort: addEventListener does not start delivery
+
+    return {
+        close() {
+            unsubscribers.forEach(unsubscribe => unsubscribe());
+            port.removeEventListener('message', onMessage);
+            outbox = [];
+        }
+    };
+}
+
+/**
+ * @brief Publish a request and wait for its `:done` reply
+ * @param {EventBus} eventBus
+ * @param {string} topic - Request topic (a respond() handler on either side of a bridge)
+ * @param {Object} [payload] - Plain data; an `id` is added
+ * @param {Object} [options]
+ * @param {number} [options.timeout=REQUEST_TIMEOUT_MS]
+ * @returns {Promise<*>} The responder's result; rejects on its error or the timeout
+ */
+export function request(eventBus, topic, payload = {}, { timeout = REQUEST_TIMEOUT_MS } = {}) {
+    const id = nextRequestId++;
+    const replyTopic = `${topic}:${DONE_SUFFIX}`;
+
+    return new Promise((resolve, reject) => {
+        const settle = (reply) => {
+            if (reply.id !== id) return;
+            clearTimeout(timer);
+            eventBus.unsubscribe(replyTopic, settle);
+            if ('error' in reply) reject(new Error(reply.error));
+            else resolve(reply.result);
+        };
+        const timer = setTimeout(() => settle({ id, error: `WorkerBridge: no reply to '${topic}' in ${timeout}ms` }), timeout);
+
+        eventBus.subscribe(replyTopic, settle, { replay: false });
+        eventBus.publish(topic, { ...payload, id });
+    });
+}
+
+/**
+ * @brief Answer request() calls on a topic
+ * @param {EventBus} eventBus
+ * @param {string} topic
+ * @param {Function} handler - payload → result (or Promise); thrown errors are replied
+ *        as their message
+ * @returns {Function} Unsubscribe function
+ */
+export function respond(eventBus, topic, handler) {
+    const replyTopic = `${topic}:${DONE_SUFFIX}`;
+
+    return eventBus.subscribe(topic, async ({ id, ...payload }) => {
+        try {
+            eventBus.publish(replyTopic, { id, result: await handler(payload) });
+        } catch (error) {
+            eventBus.publish(replyTopic, { id, error: String(error?.message || error) });
+        }
+    }, { replay: false });
+}
@@ -7,6 +7,9 @@
  * Para adicionar uma nova seção:
  *   1. Crie ./sections/minhaSecao.js
  *   2. Importe e adicione ao array PORTFOLIO_DATA.sections abaixo.
+ *
+ * Seções "cards"/"gallery" com `metadata.windowed: true` passam a ser renderizadas
+ * em janela (só os itens próximos da viewport) quando crescerem — ver Windowing.js.
  */
 
 import { TRAJETORIA }              from './sections/trajetoria.js';
@@ -0,0 +1,31 @@
+/**
+ * @file SectionIndex.js
+ * @brief Índice das seções: metadados imediatos, conteúdo sob demanda.
+ * @description O índice (virtual:section-index) é gerado por plugins/sectionIndex.js
+ *              e registrado uma única vez em main.js via setSectionIndex(). Cada
+ *              entrada traz id/type/title/subtitle/metadata e `load()`, que importa o
+ *              módulo da seção (./sections/*.js) como chunk próprio.
+ *
+ *              Sem índice registrado (Node, benchmarks) cai no PORTFOLIO_DATA
+ *              completo, com `load()` resolvendo a própria seção.
+ */
+
+let index = null;
+
+/**
+ * Registra o índice gerado no build.
+ * @param {Array<Object>} sectionIndex - { id, type, title, subtitle, metadata, load }
+ */
+export function setSectionIndex(sectionIndex) {
+    index = Array.isArray(sectionIndex) ? sectionIndex : null;
+}
+
+/**
+ * @returns {Promise<Array<Object>>} Entradas do índice, cada uma com `load()`
+ */
+export async function loadSectionIndex() {
+    if (index) return index;
+
+    const { PORTFOLIO_DATA } = await import('./PortfolioData.js');
+    return (PORTFOLIO_DATA.sections || []).map(section => ({ ...section, load: async () => section }));
+}
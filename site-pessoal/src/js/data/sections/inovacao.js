@@ -7,7 +7,7 @@ export const INOVACAO = {
     title: 'Ecossistema de Inovação',
     subtitle: 'NidusTec · NidusLab · Agência I9 · UNIFAL-MG',
     type: 'gallery',
-    metadata: { order: 6, visible: true },
+    metadata: { order: 6, visible: true, windowed: true },
     content: [
         {
             imageUrl: './images/nidus.jpg',
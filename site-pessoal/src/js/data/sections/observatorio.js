@@ -7,7 +7,7 @@ export const OBSERVATORIO = {
     title: 'Observatório Astronômico',
     subtitle: 'Divulgação científica e pesquisa na UNIFAL-MG',
     type: 'gallery',
-    metadata: { order: 9, visible: true },
+    metadata: { order: 9, visible: true, windowed: true },
     content: [
         { imageUrl: './images/bullet-cluster-black-matter_upscayl.png', caption: 'Bullet Cluster — distribuição de matéria escura' },
         { imageUrl: './images/seminario.jpg',          caption: 'Seminário de Astronomia — UNIFAL-MG'        },
@@ -3,6 +3,7 @@
  * @description Initializes and coordinates all MVC components, including UI controls for theme and accessibility.
  */
 import { App } from './core/App.js';
+import tracer from './core/Tracer.js';
 import { MainController } from './controllers/MainController.js';
 import { NavigationController } from './controllers/NavigationController.js';
 import { ContentModel } from './models/ContentModel.js';
@@ -10,16 +11,28 @@ import { UserModel } from './models/UserModel.js';
 import { ThemeManager } from './services/ThemeManager.js';
 import { AccessibilityManager } from './services/AccessibilityManager.js';
 import { PerformanceMonitor } from './services/PerformanceMonitor.js';
+import { RenderWorker } from './services/RenderWorker.js';
 
 // Importando a FooterView e os dados do usuário.
 import { FooterView } from './views/FooterView.js';
 import { USER_DATA } from './data/UserData.js';
 import { renderIcon } from './views/renderers/SvgIcons.js';
+import { setImageManifest } from './views/renderers/ResponsiveImage.js';
+import imageManifest from 'virtual:image-manifest';
+import { setSectionIndex } from './data/SectionIndex.js';
+import sectionIndex from 'virtual:section-index';
+
+// Variantes AVIF/WebP geradas no build (vazio em dev)
+setImageManifest(imageManifest);
+
+// Metadados das seções; o conteúdo de cada uma é um chunk carregado sob demanda
+setSectionIndex(sectionIndex);
 
 class Application {
     constructor() {
         this.app = null;
         this.isInitialized = false;
+        this.unsubscribeReady = null;
         this.initializeApplication();
     }
 
@@ -36,7 +49,8 @@ class Application {
                     userModel: UserModel,
                     themeManager: ThemeManager,
                     accessibilityManager: AccessibilityManager,
-                    performanceMonitor: PerformanceMonitor
+                    performanceMonitor: PerformanceMonitor,
+                    renderWorker: RenderWorker
                 },
                 controllers: {
                     mainController: MainController,
@@ -45,10 +59,14 @@ class Application {
             };
             
             this.app = new App(appConfig);
+            // Dev: per-topic publish/handler stats and subscriber-leak warnings (EventBus#getStats)
+            if (import.meta.env.DEV) this.app.eventBus.enableStats();
+            // Hero e seções já estão visíveis; isto só recolhe o indicador de carregamento
+            this.unsubscribeReady = this.app.eventBus.subscribe('app:ready', () => this.setStartupState('ready'));
             await this.app.initialize();
             
-            await this.setupGlobalUIControls();
-            await this.initializeFooter();
+            await tracer.trace('ui.controls', () => this.setupGlobalUIControls(), { category: 'ui' });
+            await tracer.trace('footer.render', () => this.initializeFooter(), { category: 'render' });
 
             this.isInitialized = true;
             console.info('Application: Initialized successfully');
@@ -56,22 +74,24 @@ class Application {
         } catch (error) {
             console.error('Application: Failed to initialize.', error);
             this.showErrorMessage('Failed to load application. Please refresh the page.');
-        } finally {
-            this.hideLoadingOverlay();
+            this.setStartupState('error');
         }
     }
 
     /**
-     * @brief Hides the loading overlay
+     * @brief Records the end of startup on <html data-app-state>
+     * @description The loading indicator (layout.css) only shows when startup runs past
+     *              its delay, and the attribute hides it. The first call also closes the
+     *              `app.ready` span (navigation start → now): the app.initialize spans
+     *              inside it are the part of that time spent in our code.
+     * @param {'ready'|'error'} state
      */
-    hideLoadingOverlay() {
-        const loadingOverlay = document.getElementById('loading-overlay');
-        if (loadingOverlay) {
-            loadingOverlay.style.opacity = '0';
-            setTimeout(() => {
-                loadingOverlay.style.display = 'none';
-            }, 500);
+    setStartupState(state) {
+        const root = document.documentElement;
+        if (!root.dataset.appState) {
+            tracer.start('app.ready', { category: 'ui', parent: null, startTime: 0, args: { state } }).finish();
         }
+        root.dataset.appState = state;
     }
 
     /**
@@ -179,7 +199,7 @@ class Application {
             {
                 label: 'Alto Contraste',
                 action: () => {
-                    const current = document.body.classList.contains('high-contrast');
+                    const current = document.documentElement.classList.contains('high-contrast');
                     accessibilityManager.toggleHighContrast(!current);
                 },
                 icon: renderIcon('adjust')
@@ -187,7 +207,7 @@ class Application {
             {
                 label: 'Reduzir Animações',
                 action: () => {
-                    const current = document.body.classList.contains('reduced-motion');
+                    const current = document.documentElement.classList.contains('reduced-motion');
                     accessibilityManager.toggleReducedMotion(!current);
                 },
                 icon: renderIcon('eyeSlash')
@@ -226,6 +246,8 @@ class Application {
      * @brief Destroy application
      */
     async destroy() {
+        this.unsubscribeReady?.();
+        this.unsubscribeReady = null;
         if (this.app && typeof this.app.shutdown === 'function') {
             await this.app.shutdown();
         }
@@ -233,6 +255,24 @@ class Application {
     }
 }
 
+/**
+ * @brief Registers the build-generated service worker (plugins/serviceWorker.js).
+ * @description Production only: in dev there is no sw.js and a stale worker would
+ *              serve outdated modules. Registered after load so it never competes
+ *              with the first render for bandwidth.
+ */
+function registerServiceWorker() {
+    if (!import.meta.env.PROD || !('serviceWorker' in navigator)) return;
+
+    window.addEventListener('load', () => {
+        const base = import.meta.env.BASE_URL;
+        navigator.serviceWorker.register(`${base}sw.js`, { scope: base })
+            .catch(error => console.warn('Application: Service worker registration failed.', error));
+    });
+}
+
+registerServiceWorker();
+
 // Inicialização segura
 if (document.readyState === 'loading') {
     document.addEventListener('DOMContentLoaded', () => {
@@ -3,24 +3,78 @@
  * @brief Model responsible for managing the website's portfolio content.
  */
 
-import { PORTFOLIO_DATA } from '../data/PortfolioData.js';
+import eventBus from '../core/EventBus.js';
+import { loadSectionIndex } from '../data/SectionIndex.js';
 
 class ContentModel {
-    constructor() {
+    constructor(dependencies = {}) {
+        this.eventBus = dependencies.eventBus || eventBus;
         this.sections = [];
         this.isInitialized = false;
+        this._initPromise = null;
+        this._loaders = new Map(); // id → load() from the section index
+        this._loading = new Map(); // id → Promise<section>
     }
 
-    async initializeContentModel() {
-        try {
-            // Use os dados do PORTFOLIO_DATA diretamente
-            this.sections = PORTFOLIO_DATA.sections || [];
-            this.isInitialized = true;
-            console.info('ContentModel: Content model initialized successfully');
-        } catch (error) {
+    /**
+     * @brief App lifecycle hook: controllers depending on the model start after it
+     * @returns {Promise<void>}
+     */
+    init() {
+        return this.initializeContentModel();
+    }
+
+    /**
+     * @brief Load the section index (metadata only; content is fetched by loadSection)
+     * @description Announces `content:loaded` (sticky: components subscribing later
+     *              receive it too) instead of having each consumer initialize the model.
+     * @returns {Promise<void>}
+     */
+    initializeContentModel() {
+        this._initPromise ??= this._initialize().catch((error) => {
+            this._initPromise = null;
             console.error('ContentModel: Initialization failed:', error);
             throw error;
+        });
+        return this._initPromise;
+    }
+
+    async _initialize() {
+        const index = await loadSectionIndex();
+
+        // New entries (no `load`): updateSection replaces them without mutating the index
+        this.sections = index.map(({ load, ...section }) => {
+            this._loaders.set(section.id, load);
+            return section;
+        });
+        this.isInitialized = true;
+        console.info('ContentModel: Content model initialized successfully');
+        this.eventBus.publish('content:loaded', { sections: this.getAllSections() });
+    }
+
+    /**
+     * @brief Fetch a section's content module (once) and store the full section
+     * @param {string} sectionId
+     * @returns {Promise<Object>} Section with content
+     */
+    loadSection(sectionId) {
+        const current = this.getSection(sectionId);
+        if (!current) return Promise.reject(new Error(`ContentModel: section "${sectionId}" not found`));
+        if (current.content !== undefined) return Promise.resolve(current);
+
+        if (!this._loading.has(sectionId)) {
+            const load = this._loaders.get(sectionId);
+            this._loading.set(sectionId, Promise.resolve(load?.())
+                .then((data) => {
+                    if (!data) throw new Error(`ContentModel: section "${sectionId}" has no data module`);
+                    // Index metadata (and any update made meanwhile) wins over the module
+                    const loaded = { ...data, ...this.getSection(sectionId) };
+                    this.sections[this.sections.findIndex(section => section.id === sectionId)] = loaded;
+                    return loaded;
+                })
+                .finally(() => this._loading.delete(sectionId)));
         }
+        return this._loading.get(sectionId);
     }
 
     getAllSections() {
@@ -30,6 +84,25 @@ class ContentModel {
     getSection(sectionId) {
         return this.sections.find(section => section.id === sectionId);
     }
+
+    /**
+     * Merge partial changes into a section, replacing (not mutating) the entry
+     * so views can still diff against the previous object.
+     * @param {string} sectionId
+     * @param {Object} changes - Partial section (title, content, metadata...)
+     * @returns {Object|null} Updated section, or null if not found
+     */
+    updateSection(sectionId, changes) {
+        const idx = this.sections.findIndex(section => section.id === sectionId);
+        if (idx === -1) {
+            console.warn(`ContentModel: section "${sectionId}" not found`);
+            return null;
+        }
+
+        const updated = { ...this.sections[idx], ...changes, id: sectionId };
+        this.sections[idx] = updated;
+        return updated;
+    }
 }
 
 export { ContentModel };
\ No newline at end of file
@@ -1,10 +1,22 @@
 import eventBus from '../core/EventBus.js';
+import { PREFERENCE_KEYS, A11Y_CLASSES, readPrepaintState } from '../core/PrepaintBootstrap.js';
 
 /**
  * @brief Accessibility manager service
  * @description Handles accessibility features and keyboard navigation
  */
 class AccessibilityManager {
+    /**
+     * Created on first use (App lazy proxy): the accessibility menu, an announcement
+     * or focus request on the bus, or the first key press (keyboard users get skip
+     * links and focus handling from their first Tab). Persisted preferences are
+     * already applied by the pre-paint bootstrap.
+     */
+    static lazy = {
+        events: ['accessibility:announce', 'accessibility:trapFocus', 'accessibility:releaseFocus', 'accessibility:focusElement'],
+        domEvents: ['keydown']
+    };
+
     constructor(dependencies = {}) {
         this.eventBus = dependencies.eventBus || eventBus;
         this.isInitialized = false;
@@ -18,6 +30,9 @@ class AccessibilityManager {
         this.announce = this.announce.bind(this);
         this.handleKeydown = this.handleKeydown.bind(this);
         this.handleFocusIn = this.handleFocusIn.bind(this);
+        this.trapFocus = this.trapFocus.bind(this);
+        this.releaseFocus = this.releaseFocus.bind(this);
+        this.focusElement = this.focusElement.bind(this);
         
         // Configuração padrão para elementos focáveis
         this.focusableSelectors = [
@@ -67,9 +82,9 @@ class AccessibilityManager {
         
         // EventBus subscriptions
         this.eventBus.subscribe('accessibility:announce', this.announce);
-        this.eventBus.subscribe('accessibility:trapFocus', this.trapFocus.bind(this));
-        this.eventBus.subscribe('accessibility:releaseFocus', this.releaseFocus.bind(this));
-        this.eventBus.subscribe('accessibility:focusElement', this.focusElement.bind(this));
+        this.eventBus.subscribe('accessibility:trapFocus', this.trapFocus);
+        this.eventBus.subscribe('accessibility:releaseFocus', this.releaseFocus);
+        this.eventBus.subscribe('accessibility:focusElement', this.focusElement);
 
         this.setupMutationObserver();
     }
@@ -536,31 +551,34 @@ class AccessibilityManager {
      */
     applyFontSize() {
         document.documentElement.style.fontSize = `${this.fontSize}%`;
-        localStorage.setItem('fontSize', this.fontSize);
+        localStorage.setItem(PREFERENCE_KEYS.fontSize, this.fontSize);
     }
 
     /**
      * @brief Load saved preferences
+     * @description The pre-paint bootstrap (core/PrepaintBootstrap.js) already applied
+     *              them to <html>: adopt that state without touching the DOM. Without
+     *              the bootstrap, apply everything in one batch (no per-flag restyle,
+     *              no announcements, no storage writes).
      */
     loadPreferences() {
-        // Load font size
-        const savedFontSize = localStorage.getItem('fontSize');
-        if (savedFontSize) {
-            this.fontSize = parseInt(savedFontSize);
-            this.applyFontSize();
+        const prepaint = readPrepaintState();
+        if (prepaint) {
+            this.fontSize = prepaint.fontSize;
+            return;
         }
 
-        // Load high contrast - NÃO aplicar por padrão, só se explicitamente salvo
-        const highContrast = localStorage.getItem('highContrast');
-        if (highContrast === 'true') {
-            this.toggleHighContrast(true);
-        }
+        const root = document.documentElement;
+        const classes = [];
+        // High contrast - NÃO aplicar por padrão, só se explicitamente salvo
+        if (localStorage.getItem(PREFERENCE_KEYS.highContrast) === 'true') classes.push(A11Y_CLASSES.highContrast);
+        if (localStorage.getItem(PREFERENCE_KEYS.reducedMotion) === 'true') classes.push(A11Y_CLASSES.reducedMotion);
 
-        // Load reduced motion
-        const reducedMotion = localStorage.getItem('reducedMotion');
-        if (reducedMotion === 'true') {
-            this.toggleReducedMotion(true);
-        }
+        const savedFontSize = parseInt(localStorage.getItem(PREFERENCE_KEYS.fontSize), 10);
+        if (savedFontSize > 0) this.fontSize = savedFontSize;
+
+        if (classes.length) root.classList.add(...classes);
+        if (this.fontSize !== 100) root.style.fontSize = `${this.fontSize}%`;
     }
 
     /**
@@ -660,15 +678,15 @@ class AccessibilityManager {
      */
     toggleHighContrast(enable) {
         if (enable) {
-            document.body.classList.add('high-contrast');
+            document.documentElement.classList.add(A11Y_CLASSES.highContrast);
             this.announce('High contrast mode enabled');
         } else {
-            document.body.classList.remove('high-contrast');
+            document.documentElement.classList.remove(A11Y_CLASSES.highContrast);
             this.announce('High contrast mode disabled');
         }
         
         // Salva a preferência
-        localStorage.setItem('highContrast', enable);
+        localStorage.setItem(PREFERENCE_KEYS.highContrast, enable);
     }
 
     /**
@@ -677,15 +695,15 @@ class AccessibilityManager {
      */
     toggleReducedMotion(enable) {
         if (enable) {
-            document.body.classList.add('reduced-motion');
+            document.documentElement.classList.add(A11Y_CLASSES.reducedMotion);
             this.announce('Reduced motion enabled');
         } else {
-            document.body.classList.remove('reduced-motion');
+            document.documentElement.classList.remove(A11Y_CLASSES.reducedMotion);
             this.announce('Reduced motion disabled');
         }
         
         // Salva a preferência
-        localStorage.setItem('reducedMotion', enable);
+        localStorage.setItem(PREFERENCE_KEYS.reducedMotion, enable);
     }
 
     /**
@@ -698,8 +716,8 @@ class AccessibilityManager {
             focusTrapped: this.focusTrapped,
             focusableElementsCount: this.focusableElements.length,
             fontSize: this.fontSize,
-            highContrast: document.body.classList.contains('high-contrast'),
-            reducedMotion: document.body.classList.contains('reduced-motion')
+            highContrast: document.documentElement.classList.contains(A11Y_CLASSES.highContrast),
+            reducedMotion: document.documentElement.classList.contains(A11Y_CLASSES.reducedMotion)
         };
     }
 
@@ -710,12 +728,11 @@ class AccessibilityManager {
         this.fontSize = 100;
         this.applyFontSize();
         
-        document.body.classList.remove('high-contrast');
-        document.body.classList.remove('reduced-motion');
+        document.documentElement.classList.remove(A11Y_CLASSES.highContrast, A11Y_CLASSES.reducedMotion);
         
-        localStorage.removeItem('fontSize');
-        localStorage.removeItem('highContrast');
-        localStorage.removeItem('reducedMotion');
+        localStorage.removeItem(PREFERENCE_KEYS.fontSize);
+        localStorage.removeItem(PREFERENCE_KEYS.highContrast);
+        localStorage.removeItem(PREFERENCE_KEYS.reducedMotion);
         
         this.announce('All accessibility settings have been reset to default');
     }
@@ -732,12 +749,8 @@ class AccessibilityManager {
         this.eventBus.unsubscribe('accessibility:trapFocus', this.trapFocus);
         this.eventBus.unsubscribe('accessibility:releaseFocus', this.releaseFocus);
         this.eventBus.unsubscribe('accessibility:focusElement', this.focusElement);
-        
-        // Clear EventBus events
-        this.eventBus.clear('accessibility:escape');
-        this.eventBus.clear('accessibility:tab');
-        this.eventBus.clear('accessibility:arrowNavigation');
-        this.eventBus.clear('accessibility:focusChanged');
+        // accessibility:escape/tab/arrowNavigation/focusChanged are published here:
+        // their subscribers belong to other components, which unsubscribe themselves
         
         // Disconnect observer
         if (this.observer) {
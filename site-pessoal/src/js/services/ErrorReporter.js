@@ -5,6 +5,9 @@ import eventBus from '../core/EventBus.js';
  * @description Captures, processes, and reports application errors
  */
 export class ErrorReporter {
+    /** Not needed for first render: App initializes it when idle */
+    static deferred = true;
+
     constructor(dependencies = {}) {
         this.eventBus = dependencies.eventBus || eventBus;
         this.errors = [];
@@ -12,6 +15,9 @@ export class ErrorReporter {
         
         this.handleError = this.handleError.bind(this);
         this.handleUnhandledRejection = this.handleUnhandledRejection.bind(this);
+        this.onAppError = this.onAppError.bind(this);
+        this.onRenderError = this.onRenderError.bind(this);
+        this.onSectionError = this.onSectionError.bind(this);
     }
 
     /**
@@ -51,9 +57,9 @@ export class ErrorReporter {
      * @brief Set up event listeners for custom errors
      */
     setupEventListeners() {
-        this.eventBus.subscribe('app:error', this.onAppError.bind(this));
-        this.eventBus.subscribe('render:error', this.onRenderError.bind(this));
-        this.eventBus.subscribe('section:error', this.onSectionError.bind(this));
+        this.eventBus.subscribe('app:error', this.onAppError);
+        this.eventBus.subscribe('render:error', this.onRenderError);
+        this.eventBus.subscribe('section:error', this.onSectionError);
     }
 
     /**
@@ -207,6 +213,7 @@ export class ErrorReporter {
      */
     interceptConsoleErrors() {
         const originalConsoleError = console.error;
+        if (originalConsoleError.__original) return; // already intercepted
         
         console.error = (...args) => {
             const errorData = {
@@ -219,6 +226,7 @@ export class ErrorReporter {
             this.captureError(errorData);
             originalConsoleError.apply(console, args);
         };
+        console.error.__original = originalConsoleError;
     }
 
     /**
@@ -329,9 +337,10 @@ export class ErrorReporter {
         window.removeEventListener('error', this.handleError);
         window.removeEventListener('unhandledrejection', this.handleUnhandledRejection);
         
-        this.eventBus.clear('app:error');
-        this.eventBus.clear('render:error');
-        this.eventBus.clear('section:error');
+        // Only our handlers: clear() would drop every component's subscriptions
+        this.eventBus.unsubscribe('app:error', this.onAppError);
+        this.eventBus.unsubscribe('render:error', this.onRenderError);
+        this.eventBus.unsubscribe('section:error', this.onSectionError);
         
         // Restore original console.error if intercepted
         if (console.error.__original) {
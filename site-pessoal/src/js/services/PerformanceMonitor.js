@@ -1,17 +1,28 @@
 import eventBus from '../core/EventBus.js';
+import tracer from '../core/Tracer.js';
 
 /**
  * @brief Performance monitoring service
  * @description Tracks application performance metrics and user interactions
  */
 export class PerformanceMonitor {
+    /** Not needed for first render: App initializes it when idle */
+    static deferred = true;
+
     constructor(dependencies = {}) {
         this.eventBus = dependencies.eventBus || eventBus;
+        this.tracer = dependencies.tracer || tracer;
         this.metrics = new Map();
+        this.traces = [];
         this.isInitialized = false;
+        this._unsubscribeTraces = null;
         
         this.onFirstContentfulPaint = this.onFirstContentfulPaint.bind(this);
         this.onLargestContentfulPaint = this.onLargestContentfulPaint.bind(this);
+        this.onNavigation = this.onNavigation.bind(this);
+        this.onSectionRendered = this.onSectionRendered.bind(this);
+        this.onUserInteraction = this.onUserInteraction.bind(this);
+        this.observers = [];
     }
 
     /**
@@ -25,6 +36,7 @@ export class PerformanceMonitor {
             this.setupPerformanceObservers();
             this.setupEventListeners();
             this.trackInitialLoad();
+            this.collectTraces();
             
             this.isInitialized = true;
             console.info('PerformanceMonitor: Initialized successfully');
@@ -49,6 +61,7 @@ export class PerformanceMonitor {
                     this.onLargestContentfulPaint(lastEntry);
                 });
                 lcpObserver.observe({ type: 'largest-contentful-paint', buffered: true });
+                this.observers.push(lcpObserver);
 
                 // FID Observer
                 const fidObserver = new PerformanceObserver((entryList) => {
@@ -63,6 +76,7 @@ export class PerformanceMonitor {
                     });
                 });
                 fidObserver.observe({ type: 'first-input', buffered: true });
+                this.observers.push(fidObserver);
 
                 // CLS Observer
                 const clsObserver = new PerformanceObserver((entryList) => {
@@ -74,12 +88,14 @@ export class PerformanceMonitor {
                         }
                     });
                     this.metrics.set('cls', clsValue);
-                    this.eventBus.publish('performance:metric', {
+                    // Layout shifts arrive in bursts: only the latest value per idle period
+                    this.eventBus.publishAsync('performance:metric', {
                         name: 'cls',
                         value: clsValue
-                    });
+                    }, { priority: 'background', key: 'performance:metric:cls' });
                 });
                 clsObserver.observe({ type: 'layout-shift', buffered: true });
+                this.observers.push(clsObserver);
 
             } catch (error) {
                 console.warn('PerformanceMonitor: Performance Observer not supported', error);
@@ -92,13 +108,13 @@ export class PerformanceMonitor {
      */
     setupEventListeners() {
         // Track navigation performance
-        this.eventBus.subscribe('router:navigated', this.onNavigation.bind(this));
+        this.eventBus.subscribe('router:navigated', this.onNavigation);
         
         // Track resource loading
-        this.eventBus.subscribe('view:section:rendered', this.onSectionRendered.bind(this));
+        this.eventBus.subscribe('view:section:rendered', this.onSectionRendered);
         
         // Track user interactions
-        document.addEventListener('click', this.onUserInteraction.bind(this));
+        document.addEventListener('click', this.onUserInteraction);
     }
 
     /**
@@ -129,6 +145,39 @@ export class PerformanceMonitor {
         }
     }
 
+    /**
+     * @brief Collect Tracer spans: those finished before this (deferred) service
+     *        started, then each new one as it finishes
+     */
+    collectTraces() {
+        this.traces = this.tracer.getSpans();
+        this.traces.forEach(span => this.metrics.set(`trace:${span.name}`, span.duration));
+
+        this._unsubscribeTraces = this.tracer.onSpan((span) => {
+            this.traces.push(span);
+            this.metrics.set(`trace:${span.name}`, span.duration);
+            this.eventBus.publish('performance:trace', span);
+        });
+    }
+
+    /**
+     * @brief Collected spans (see Tracer#getSpans)
+     * @returns {Object[]}
+     */
+    getTraces() {
+        return [...this.traces];
+    }
+
+    /**
+     * @brief Collected spans as Chrome trace-event JSON
+     * @description Save the string to a .json file and open it in DevTools
+     *              (Performance → Load profile), chrome://tracing or Perfetto.
+     * @returns {string}
+     */
+    exportTrace() {
+        return JSON.stringify(this.tracer.toChromeTrace(this.traces));
+    }
+
     /**
      * @brief Handle First Contentful Paint
      * @param {PerformanceEntry} entry - Performance entry
@@ -197,11 +246,12 @@ export class PerformanceMonitor {
     onUserInteraction(event) {
         const interactionTime = performance.now();
         
-        this.eventBus.publish('performance:interaction', {
+        // Every document click: subscribers run when idle, not on the input path
+        this.eventBus.publishAsync('performance:interaction', {
             type: event.type,
             target: event.target.tagName,
             timestamp: interactionTime
-        });
+        }, { priority: 'background', coalesce: false });
     }
 
     /**
@@ -249,6 +299,7 @@ export class PerformanceMonitor {
         const performanceData = {
             ...this.getMetrics(),
             ...additionalData,
+            eventBus: this.eventBus.getStats(),
             userAgent: navigator.userAgent,
             connection: navigator.connection ? {
                 effectiveType: navigator.connection.effectiveType,
@@ -295,11 +346,16 @@ export class PerformanceMonitor {
      * @brief Destroy performance monitor
      */
     destroy() {
-        this.eventBus.clear('router:navigated');
-        this.eventBus.clear('view:section:rendered');
+        // Only our handlers: clear() would drop every component's subscriptions
+        this.eventBus.unsubscribe('router:navigated', this.onNavigation);
+        this.eventBus.unsubscribe('view:section:rendered', this.onSectionRendered);
         document.removeEventListener('click', this.onUserInteraction);
+        this.observers.forEach(observer => observer.disconnect());
+        this.observers = [];
+        this._unsubscribeTraces?.();
         
         this.metrics.clear();
+        this.traces = [];
         this.isInitialized = false;
         
         console.info('PerformanceMonitor: Destroyed');
@@ -0,0 +1,85 @@
+import eventBus from '../core/EventBus.js';
+import { bridge } from '../core/WorkerBridge.js';
+import { getImageManifest } from '../views/renderers/ResponsiveImage.js';
+
+/** Topics sent to the worker; its replies (`*:done`) come back on the same bus */
+const FORWARDED_TOPICS = ['worker:render:section', 'worker:render:manifest'];
+
+/**
+ * @brief Runs section rendering in a dedicated Web Worker
+ * @description Bridges the worker:render:* topics to worker/render-worker.js (see
+ *              core/WorkerBridge.js). Publishers don't depend on this service: while
+ *              it is not running (not initialized yet, no Worker support, worker
+ *              crashed) nothing handles those topics and ViewManager renders on the
+ *              main thread.
+ */
+export class RenderWorker {
+    /** Only off-screen sections use it: App starts the worker when idle */
+    static deferred = true;
+
+    constructor(dependencies = {}) {
+        this.eventBus = dependencies.eventBus || eventBus;
+        this.worker = null;
+        this.bridge = null;
+        this.isInitialized = false;
+
+        this.onWorkerError = this.onWorkerError.bind(this);
+    }
+
+    /**
+     * @brief Start the worker and bridge the render topics to it
+     */
+    async init() {
+        if (this.isInitialized) return;
+
+        if (typeof Worker === 'undefined') {
+            console.info('RenderWorker: Web Workers unavailable, rendering stays on the main thread');
+            return;
+        }
+
+        try {
+            this.worker = new Worker(new URL('../worker/render-worker.js', import.meta.url), { type: 'module', name: 'render' });
+            this.worker.addEventListener('error', this.onWorkerError);
+            this.bridge = bridge(this.eventBus, this.worker, { forward: FORWARDED_TOPICS });
+            this.eventBus.publish('worker:render:manifest', getImageManifest());
+
+            this.isInitialized = true;
+            console.info('RenderWorker: Initialized successfully');
+
+        } catch (error) {
+            console.warn('RenderWorker: Could not start the worker, rendering stays on the main thread', error);
+            this.stop();
+        }
+    }
+
+    /**
+     * @brief Worker failed to load or threw: fall back to main-thread rendering
+     * @description Requests in flight time out (WorkerBridge.request) and are rendered
+     *              by ViewManager itself.
+     * @param {ErrorEvent} event
+     */
+    onWorkerError(event) {
+        console.error('RenderWorker: Worker failed, rendering falls back to the main thread', event.message);
+        this.stop();
+    }
+
+    /**
+     * @brief Close the bridge and terminate the worker
+     */
+    stop() {
+        this.bridge?.close();
+        this.bridge = null;
+        this.worker?.removeEventListener('error', this.onWorkerError);
+        this.worker?.terminate();
+        this.worker = null;
+        this.isInitialized = false;
+    }
+
+    /**
+     * @brief Destroy render worker
+     */
+    destroy() {
+        this.stop();
+        console.info('RenderWorker: Destroyed');
+    }
+}
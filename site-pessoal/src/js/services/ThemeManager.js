@@ -1,29 +1,53 @@
 import eventBus from '../core/EventBus.js';
+import { whenIdle } from '../core/Scheduler.js';
+import { PREFERENCE_KEYS, readPrepaintState } from '../core/PrepaintBootstrap.js';
+import themeStylesheets from 'virtual:theme-stylesheets';
 
 /**
  * @brief Theme manager service
- * @description Manages application theme and dark/light mode
+ * @description Manages application theme and dark/light mode. Each theme is a
+ *              separate stylesheet (plugins/themeStylesheets.js): only the active one
+ *              is loaded up front — by the pre-paint bootstrap in <head>, which also
+ *              sets the <html> class — and the other is prefetched when the main
+ *              thread is idle.
  */
 export class ThemeManager {
     constructor(dependencies = {}) {
         this.eventBus = dependencies.eventBus || eventBus;
         this.currentTheme = 'light';
         this.isInitialized = false;
+        this.stylesheets = { ...themeStylesheets };
+        this._sheets = new Map(); // theme → <link data-theme-sheet>
+        this._swap = 0;
     }
 
     /**
      * @brief Initialize theme manager
-     * @description Loads saved theme or detects system preference
+     * @description Adopts the theme applied by the pre-paint bootstrap; without it
+     *              (no inline script), loads the saved theme and applies it
      */
     async init() {
         if (this.isInitialized) return;
 
-        // Light mode como padrão — ignora preferência de sistema para garantir consistência
-        const savedTheme = localStorage.getItem('app-theme') || 'light';
-        this.currentTheme = savedTheme;
+        // Folha já inserida pelo bootstrap pré-paint
+        document.querySelectorAll('link[data-theme-sheet]').forEach(link => {
+            this._sheets.set(link.dataset.themeSheet, link);
+        });
+
+        const prepaint = readPrepaintState();
+        if (prepaint && this.stylesheets[prepaint.theme]) {
+            // Estado já no <html>: nada a reescrever
+            this.currentTheme = prepaint.theme;
+            this._syncThemeColor(this.currentTheme);
+        } else {
+            // Light mode como padrão — ignora preferência de sistema para garantir consistência
+            const savedTheme = localStorage.getItem(PREFERENCE_KEYS.theme) || 'light';
+            this.currentTheme = this.stylesheets[savedTheme] ? savedTheme : 'light';
+            this.applyTheme(this.currentTheme);
+        }
 
-        this.applyTheme(this.currentTheme);
         this.setupEventListeners();
+        this._prefetchInactive();
 
         this.isInitialized = true;
         console.info('ThemeManager: Inicializado com tema:', this.currentTheme);
@@ -34,7 +58,7 @@ export class ThemeManager {
      */
     setupEventListeners() {
         window.matchMedia('(prefers-color-scheme: dark)').addEventListener('change', (e) => {
-            if (!localStorage.getItem('app-theme')) {
+            if (!localStorage.getItem(PREFERENCE_KEYS.theme)) {
                 this.setTheme(e.matches ? 'dark' : 'light');
             }
         });
@@ -53,7 +77,7 @@ export class ThemeManager {
         this.currentTheme = theme;
         this.applyTheme(theme);
         
-        localStorage.setItem('app-theme', theme);
+        localStorage.setItem(PREFERENCE_KEYS.theme, theme);
         
         // Dispara evento para atualizar os componentes
         this.eventBus.publish('theme:changed', { theme });
@@ -64,18 +88,95 @@ export class ThemeManager {
 
     /**
      * @brief Apply theme to document
+     * @description Waits for the theme's stylesheet before switching, then flips the
+     *              <html> theme class and turns off the previous sheet in the same frame:
+     *              one style recalculation, no flash of unthemed content. Theme rules are
+     *              scoped to html.<theme>, so the inactive sheet matches nothing anyway.
+     *              Other <html> classes (accessibility flags) are left untouched.
      * @param {string} theme - Theme name
+     * @returns {Promise<void>}
      */
-    applyTheme(theme) {
-        document.documentElement.setAttribute('data-theme', theme);
-        document.documentElement.className = theme; // Adicione esta linha
-        
+    async applyTheme(theme) {
+        const swap = ++this._swap;
+        const sheet = this._sheetFor(theme);
+        await this._loaded(sheet);
+        if (swap !== this._swap) return; // superseded by a later setTheme
+
+        requestAnimationFrame(() => {
+            if (swap !== this._swap) return;
+            sheet.media = 'all';
+            const root = document.documentElement;
+            root.setAttribute('data-theme', theme);
+            root.classList.remove(...Object.keys(this.stylesheets));
+            root.classList.add(theme);
+            // media (not `disabled`) keeps the parsed sheet: switching back is instant
+            this._sheets.forEach((link, name) => {
+                if (name !== theme) link.media = 'not all';
+            });
+        });
+
+        this._syncThemeColor(theme);
+    }
+
+    /**
+     * @brief Match the browser UI color to the theme
+     * @param {string} theme
+     */
+    _syncThemeColor(theme) {
         const metaThemeColor = document.querySelector('meta[name="theme-color"]');
         if (metaThemeColor) {
             metaThemeColor.setAttribute('content', theme === 'dark' ? '#1a1a1a' : '#ffffff');
         }
     }
 
+    /**
+     * @brief Stylesheet link for a theme, inserted on first use
+     * @param {string} theme
+     * @returns {HTMLLinkElement}
+     */
+    _sheetFor(theme) {
+        let link = this._sheets.get(theme);
+        if (!link) {
+            link = document.createElement('link');
+            link.rel = 'stylesheet';
+            link.href = this.stylesheets[theme];
+            link.dataset.themeSheet = theme;
+            document.head.appendChild(link);
+            this._sheets.set(theme, link);
+        }
+        return link;
+    }
+
+    /**
+     * @brief Resolve once the link's stylesheet is parsed (or failed)
+     * @param {HTMLLinkElement} link
+     * @returns {Promise<void>}
+     */
+    _loaded(link) {
+        if (link.sheet) return Promise.resolve();
+        return new Promise(resolve => {
+            link.addEventListener('load', resolve, { once: true });
+            link.addEventListener('error', resolve, { once: true });
+        });
+    }
+
+    /**
+     * @brief Warm the HTTP cache with the inactive themes' stylesheets
+     */
+    async _prefetchInactive() {
+        await whenIdle();
+        Object.entries(this.stylesheets).forEach(([theme, href]) => {
+            if (theme === this.currentTheme || this._sheets.has(theme)) return;
+            if (document.head.querySelector(`link[rel="prefetch"][href="${href}"]`)) return;
+
+            const link = document.createElement('link');
+            link.rel = 'prefetch';
+            link.as = 'style';
+            link.href = href;
+            document.head.appendChild(link);
+        });
+    }
+
     /**
      * @brief Toggle between light and dark themes
      */
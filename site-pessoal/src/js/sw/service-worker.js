@@ -0,0 +1,172 @@
+/**
+ * @file service-worker.js
+ * @brief Service worker do site: precache dos chunks, imagens com LRU e HTML revalidado.
+ * @description Não é importado pela aplicação: plugins/serviceWorker.js lê este arquivo
+ *              no `vite build`, injeta a lista de arquivos com hash do bundle e o emite
+ *              como `sw.js` na raiz do deploy (escopo = base do Vite, ex.: /site/).
+ *
+ *              Estratégias:
+ *                precache (JS/CSS/fontes com hash) → cache-first, nunca expira: o nome muda
+ *                  a cada build, e caches de versões antigas são apagados no activate
+ *                imagens do próprio site → cache-first com orçamento LRU (bytes e entradas)
+ *                navegação (index.html)   → stale-while-revalidate
+ *
+ *              Todas as URLs são resolvidas a partir de registration.scope, então o mesmo
+ *              arquivo funciona em qualquer base.
+ */
+
+/* ─── Injetados no build ─── */
+const PRECACHE_MANIFEST = self.__PRECACHE_MANIFEST__;
+const CACHE_VERSION     = self.__CACHE_VERSION__;
+const IMAGE_BUDGET      = self.__IMAGE_BUDGET__;
+
+const PREFIX = 'site-';
+const CACHES = {
+    precache: `${PREFIX}precache-${CACHE_VERSION}`,
+    pages:    `${PREFIX}pages`,
+    images:   `${PREFIX}images`,
+};
+
+/** Cabeçalho com o tamanho do corpo gravado junto à resposta (base do orçamento) */
+const SIZE_HEADER = 'x-sw-size';
+
+const SCOPE = self.registration.scope;
+const scoped = path => new URL(path, SCOPE).href;
+
+const PRECACHE_URLS = new Set(PRECACHE_MANIFEST.map(scoped));
+
+/** URLs da página (o site é uma única página) */
+const PAGE_URLS = new Set([SCOPE, scoped('index.html')]);
+
+/* ──────────────────────────────────────────
+   CICLO DE VIDA
+────────────────────────────────────────── */
+self.addEventListener('install', (event) => {
+    event.waitUntil((async () => {
+        const precache = await caches.open(CACHES.precache);
+        await precache.addAll([...PRECACHE_URLS]);
+
+        // HTML atual: a primeira visita offline já abre a página
+        const pages = await caches.open(CACHES.pages);
+        await pages.add(SCOPE).catch(() => {});
+
+        await self.skipWaiting();
+    })());
+});
+
+self.addEventListener('activate', (event) => {
+    event.waitUntil((async () => {
+        const current = new Set(Object.values(CACHES));
+        const names = await caches.keys();
+        await Promise.all(names
+            .filter(name => name.startsWith(PREFIX) && !current.has(name))
+            .map(name => caches.delete(name)));
+        await self.clients.claim();
+    })());
+});
+
+/* ──────────────────────────────────────────
+   ROTEAMENTO
+────────────────────────────────────────── */
+self.addEventListener('fetch', (event) => {
+    const { request } = event;
+    if (request.method !== 'GET') return;
+
+    const url = new URL(request.url);
+
+    if (PRECACHE_URLS.has(url.href)) {
+        event.respondWith(cacheFirst(request, CACHES.precache));
+    } else if (request.mode === 'navigate' && PAGE_URLS.has(url.origin + url.pathname)) {
+        event.respondWith(staleWhileRevalidate(new Request(SCOPE), CACHES.pages, event, request));
+    } else if (request.destination === 'image' && url.href.startsWith(SCOPE)) {
+        event.respondWith(cachedImage(request, event));
+    }
+});
+
+/* ──────────────────────────────────────────
+   ESTRATÉGIAS
+────────────────────────────────────────── */
+async function cacheFirst(request, cacheName) {
+    const cache = await caches.open(cacheName);
+    const cached = await cache.match(request);
+    if (cached) return cached;
+
+    const response = await fetch(request);
+    if (response.ok) await cache.put(request, response.clone());
+    return response;
+}
+
+/**
+ * Responde do cache e atualiza em segundo plano; sem cache, espera a rede.
+ * @param {Request} key          - Chave no cache (a navegação usa sempre o escopo)
+ * @param {string}  cacheName
+ * @param {FetchEvent} event
+ * @param {Request} [request]    - Requisição real (padrão: a própria chave)
+ */
+async function staleWhileRevalidate(key, cacheName, event, request = key) {
+    const cache = await caches.open(cacheName);
+    const cached = await cache.match(key);
+
+    const network = fetch(request).then(async (response) => {
+        if (response.ok) await cache.put(key, response.clone());
+        return response;
+    });
+
+    if (cached) {
+        event.waitUntil(network.catch(() => {}));
+        return cached;
+    }
+    return network;
+}
+
+/* ──────────────────────────────────────────
+   IMAGENS — cache-first com orçamento LRU
+────────────────────────────────────────── */
+async function cachedImage(request, event) {
+    const cache = await caches.open(CACHES.images);
+    const cached = await cache.match(request);
+
+    if (cached) {
+        // Reinsere para ir ao fim da ordem de keys(): a ordem vira a de uso
+        const copy = cached.clone();
+        event.waitUntil(cache.delete(request).then(() => cache.put(request, copy)));
+        return cached;
+    }
+
+    const response = await fetch(request);
+    if (response.ok && response.type === 'basic') {
+        event.waitUntil(storeImage(cache, request, response.clone()));
+    }
+    return response;
+}
+
+async function storeImage(cache, request, response) {
+    const body = await response.blob();
+    if (body.size > IMAGE_BUDGET.maxBytes) return;
+
+    const headers = new Headers(response.headers);
+    headers.set(SIZE_HEADER, String(body.size));
+    await cache.put(request, new Response(body, {
+        status:     response.status,
+        statusText: response.statusText,
+        headers,
+    }));
+    await trimImages(cache);
+}
+
+/** Remove as menos usadas (início de keys()) até caber no orçamento */
+async function trimImages(cache) {
+    const keys = await cache.keys();
+    const sizes = await Promise.all(keys.map(async (key) => {
+        const response = await cache.match(key);
+        return Number(response?.headers.get(SIZE_HEADER)) || 0;
+    }));
+
+    let total = sizes.reduce((sum, size) => sum + size, 0);
+    let count = keys.length;
+    for (let i = 0; i < keys.length && (total > IMAGE_BUDGET.maxBytes || count > IMAGE_BUDGET.maxEntries); i++) {
+        await cache.delete(keys[i]);
+        total -= sizes[i];
+        count--;
+    }
+}
@@ -1,4 +1,5 @@
 import eventBus from '../core/EventBus.js';
+import { escapeHtml } from './renderers/Escape.js';
 
 /**
  * @brief Base view class for all views
@@ -183,11 +184,7 @@ export class BaseView {
      * @returns {string} The escaped HTML string.
      */
     escapeHtml(text) {
-        if (!text) return '';
-        
-        const div = document.createElement('div');
-        div.textContent = text;
-        return div.innerHTML;
+        return escapeHtml(text);
     }
 
     /**
@@ -63,11 +63,4 @@ export class FooterView extends BaseView {
             </div>
         `;
     }
-
-    escapeHtml(text) {
-        if (!text) return '';
-        const d = document.createElement('div');
-        d.textContent = text;
-        return d.innerHTML;
-    }
 }
\ No newline at end of file
@@ -178,13 +178,6 @@ export class NavigationView extends BaseView {
         });
     }
 
-    escapeHtml(text) {
-        if (!text) return '';
-        const d = document.createElement('div');
-        d.textContent = text;
-        return d.innerHTML;
-    }
-
     destroy() {
         this._scrollObserver?.disconnect();
         if (this._scrollHandler) {
@@ -0,0 +1,135 @@
+/**
+ * @file SectionPatcher.js
+ * @brief Reconciliação por chave de uma seção já renderizada.
+ * @description Compara os dados anteriores e novos da seção item a item (pela
+ *              chave de ItemKeys.js) e toca no DOM só onde há diferença:
+ *                - item igual (mesma assinatura) → nó mantido, movido se preciso
+ *                - item alterado → HTML do item re-renderizado e aplicado via morph()
+ *                - item novo → inserido; item ausente → removido
+ *              O custo fica proporcional ao delta, não ao tamanho da seção.
+ */
+
+import { assignKeys } from './renderers/ItemKeys.js';
+import { renderToFragment } from './renderers/Template.js';
+
+/** Classes adicionadas em runtime que o morph não deve remover */
+const RUNTIME_CLASSES = ['visible'];
+
+function toElement(result) {
+    return renderToFragment(result).firstElementChild;
+}
+
+function syncAttributes(from, to) {
+    for (const { name, value } of to.attributes) {
+        if (name === 'class') continue;
+        if (from.getAttribute(name) !== value) from.setAttribute(name, value);
+    }
+    for (const { name } of [...from.attributes]) {
+        if (name !== 'class' && !to.hasAttribute(name)) from.removeAttribute(name);
+    }
+
+    const classes = to.getAttribute('class') || '';
+    const kept = RUNTIME_CLASSES.filter(c => from.classList.contains(c) && !classes.split(/\s+/).includes(c));
+    const next = [classes, ...kept].filter(Boolean).join(' ');
+    if ((from.getAttribute('class') || '') !== next) from.setAttribute('class', next);
+}
+
+/**
+ * Transforma `from` em `to` alterando apenas nós/atributos/textos diferentes.
+ * @param {Node} from - Nó no DOM
+ * @param {Node} to   - Nó desejado (fora do DOM)
+ * @returns {Node} Nó resultante no DOM
+ */
+export function morph(from, to) {
+    if (from.nodeType !== to.nodeType || from.nodeName !== to.nodeName) {
+        from.replaceWith(to);
+        return to;
+    }
+
+    if (from.nodeType !== Node.ELEMENT_NODE) {
+        if (from.nodeValue !== to.nodeValue) from.nodeValue = to.nodeValue;
+        return from;
+    }
+
+    syncAttributes(from, to);
+
+    const fromChildren = [...from.childNodes];
+    const toChildren   = [...to.childNodes];
+    toChildren.forEach((child, idx) => {
+        if (fromChildren[idx]) morph(fromChildren[idx], child);
+        else from.appendChild(child);
+    });
+    fromChildren.slice(toChildren.length).forEach(child => child.remove());
+
+    return from;
+}
+
+/**
+ * Aplica a atualização de `previous` para `next` numa seção renderizada.
+ * @param {HTMLElement} sectionEl
+ * @param {Object} previous - Dados da seção atualmente no DOM
+ * @param {Object} next     - Novos dados (mesmo tipo)
+ * @param {Object} adapter  - definition.keyed do renderer (ItemKeys.js)
+ * @returns {Object|null} Estatísticas e nós inseridos/alterados, ou null se a
+ *                        estrutura não permite patch (o chamador re-renderiza)
+ */
+export function patchSection(sectionEl, previous, next, adapter) {
+    const container = sectionEl.querySelector(adapter.container);
+    const nextItems = adapter.items(next.content);
+    if (!container || !nextItems.length) return null;
+
+    const stats = { kept: 0, updated: 0, inserted: 0, removed: 0, moved: 0, touched: [] };
+
+    // Header
+    const title = sectionEl.querySelector('.section-title');
+    const subtitle = sectionEl.querySelector('.section-subtitle');
+    if (title && previous.title !== next.title) title.textContent = next.title || '';
+    if (subtitle && previous.subtitle !== next.subtitle) subtitle.textContent = next.subtitle || '';
+
+    // Assinaturas anteriores por chave
+    const previousItems = adapter.items(previous.content);
+    const previousKeys  = assignKeys(previousItems, adapter.key);
+    const signatures = new Map(previousKeys.map((key, idx) =>
+        [key, adapter.signature(previousItems[idx], idx, previousItems)]));
+
+    const nodes = new Map();
+    container.querySelectorAll(':scope > [data-key]').forEach(el => nodes.set(el.dataset.key, el));
+
+    const nextKeys = assignKeys(nextItems, adapter.key);
+    let cursor = null;
+
+    nextItems.forEach((item, idx) => {
+        const key = nextKeys[idx];
+        let node = nodes.get(key);
+        nodes.delete(key);
+
+        const unchanged = node && signatures.get(key) === adapter.signature(item, idx, nextItems);
+        if (unchanged) {
+            stats.kept++;
+        } else {
+            const fresh = toElement(adapter.render(item, idx, key, nextItems));
+            if (node) {
+                node = morph(node, fresh);
+                stats.updated++;
+            } else {
+                node = fresh;
+                stats.inserted++;
+            }
+            stats.touched.push(node);
+        }
+
+        const expected = cursor ? cursor.nextElementSibling : container.firstElementChild;
+        if (node !== expected) {
+            container.insertBefore(node, expected);
+            if (unchanged) stats.moved++;
+        }
+        cursor = node;
+    });
+
+    nodes.forEach(node => {
+        node.remove();
+        stats.removed++;
+    });
+
+    return stats;
+}
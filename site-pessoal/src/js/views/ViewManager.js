@@ -4,20 +4,40 @@
  * @description Após o refactor, este arquivo NÃO contém lógica de renderização.
  *              Toda lógica de HTML fica nos renderers isolados em ./renderers/.
  *
+ *              Os renderers de cada tipo e os dados de cada seção são carregados
+ *              sob demanda (renderers/registry.js, ContentModel.loadSection): só
+ *              o que está perto da viewport é baixado.
+ *
+ *              O HTML das seções abaixo da dobra é gerado no worker de renderização
+ *              (services/RenderWorker.js) quando ele está ativo; aqui fica só o commit.
+ *
  * PARA ADICIONAR UM NOVO TIPO DE SEÇÃO:
- *   1. Crie src/js/views/renderers/NovoRenderer.js
- *   2. Exporte do renderers/index.js
- *   3. Registre em this.renderers abaixo
- *   4. Adicione dados em PortfolioData.js
+ *   1. Crie src/js/views/renderers/NovoRenderer.js exportando `definition`
+ *   2. Registre em RENDERER_LOADERS (renderers/registry.js) e SECTION_DEFINITIONS (renderers/index.js)
+ *   3. Adicione dados em PortfolioData.js
  */
 import eventBus from '../core/EventBus.js';
-import {
-    renderTimeline,
-    renderMetrics,
-    renderCards,
-    renderSkills,
-    renderGallery,
-} from './renderers/index.js';
+import { renderSectionBody, sectionClassName, sectionChecksum } from './renderers/SectionRenderer.js';
+import { windowOptions } from './renderers/Windowing.js';
+import { renderInto, renderToFragment, raw } from './renderers/Template.js';
+import { escapeHtml } from './renderers/Escape.js';
+import { RENDERER_LOADERS } from './renderers/registry.js';
+import { WindowedList } from './WindowedList.js';
+import { patchSection } from './SectionPatcher.js';
+import { yieldToMain, whenIdle } from '../core/Scheduler.js';
+import { request } from '../core/WorkerBridge.js';
+
+/** Seções renderizadas com prioridade (sem esperar ociosidade) */
+const ABOVE_FOLD_SECTIONS = 2;
+
+/** Itens por bloco ao anexar cards/galerias grandes */
+const CHUNK_SIZE = 24;
+
+/** Distância da viewport em que uma seção adiada começa a carregar */
+const PROXIMITY_MARGIN = '800px 0px';
+
+/** Pedido de renderização atendido pelo worker (worker/render-worker.js) */
+const OFF_THREAD_TOPIC = 'worker:render:section';
 
 class ViewManager {
     /**
@@ -29,14 +49,22 @@ class ViewManager {
         this.container = config.container;
         this.eventBus  = config.eventBus || eventBus;
 
-        // Registro de renderers: tipo → função pura (content) → string HTML
-        this.renderers = {
-            timeline: renderTimeline,
-            metrics:  renderMetrics,
-            cards:    renderCards,
-            skills:   renderSkills,
-            gallery:  renderGallery,
-        };
+        // Registro preguiçoso: tipo → () => import() do renderer (ver renderers/registry.js)
+        this.renderers = { ...RENDERER_LOADERS };
+        this._definitions = new Map(); // tipo → Promise<definition>
+
+        // Seções em modo janela: id → WindowedList
+        this._windows = new Map();
+        this._hydrationRun = 0;
+
+        // Seções adiadas até chegarem perto da viewport: <section> → callback
+        this._deferred  = new Map();
+        this._proximity = null;
+
+        // Dados atualmente no DOM: id → { section, number, definition } (base do patch por chave)
+        this._sections = new Map();
+
+        this.onSectionUpdated = this.onSectionUpdated.bind(this);
 
         this._setupScrollReveal();
         this.setupEventListeners();
@@ -46,69 +74,432 @@ class ViewManager {
        EVENTOS
     ────────────────────────────────────────── */
     setupEventListeners() {
-        this.eventBus.subscribe('section:updated', ({ sectionId, newContent }) => {
-            this.renderSection({ id: sectionId, ...newContent });
-        });
+        this.eventBus.subscribe('section:updated', this.onSectionUpdated);
+    }
+
+    onSectionUpdated({ sectionId, newContent, section }) {
+        this.updateSection(sectionId, section || newContent);
     }
 
     /* ──────────────────────────────────────────
        RENDERIZAÇÃO DE SEÇÃO
     ────────────────────────────────────────── */
-    renderSection(section) {
+    /**
+     * Renderiza e anexa uma seção completa (dados já carregados).
+     * @param {Object} section
+     * @returns {Promise<void>}
+     */
+    async renderSection(section) {
         if (!this.container) {
             console.error('ViewManager: container não disponível');
             return;
         }
 
-        const renderer = this.renderers[section.type];
-        if (typeof renderer !== 'function') {
-            console.warn(`ViewManager: renderer não encontrado para tipo "${section.type}". ` +
-                `Tipos suportados: ${Object.keys(this.renderers).join(', ')}`);
-            return;
-        }
+        if (!this._hasRenderer(section)) return;
 
         try {
+            const definition = await this._definition(section.type);
+
             // Número sequencial para o label da seção
             const sectionNumber = this.container.children.length + 1;
 
-            // Wrapper alternado (para fundo zebrado entre seções)
-            const wrapper = document.createElement('div');
-            wrapper.className = 'section-wrapper';
-
-            const sectionEl = document.createElement('section');
-            sectionEl.id        = section.id;
-            sectionEl.className = `portfolio-section section--${section.type} animate-on-scroll`;
-            sectionEl.innerHTML = `
-                <header class="section-header">
-                    <div class="section-label">${String(sectionNumber).padStart(2, '0')}</div>
-                    <h2 class="section-title">${this._esc(section.title)}</h2>
-                    <p class="section-subtitle">${this._esc(section.subtitle)}</p>
-                </header>
-                ${renderer(section.content)}
-            `;
-
-            wrapper.appendChild(sectionEl);
+            const wrapper = this._createSection(section, sectionNumber, definition);
             this.container.appendChild(wrapper);
+            this._activateSection(wrapper.firstElementChild, section, { number: sectionNumber, definition });
+
+        } catch (err) {
+            console.error(`ViewManager: erro ao renderizar seção "${section.id}"`, err);
+            this.eventBus.publish('view:render:error', { sectionId: section.id, error: err });
+        }
+    }
+
+    /**
+     * Aplica uma atualização a uma seção já renderizada tocando só nos itens
+     * que mudaram (SectionPatcher, casando nós por data-key). Cai para a
+     * re-renderização do corpo quando o patch não se aplica: seção janelada,
+     * mudança de tipo ou estrutura sem lista chaveada.
+     *
+     * @param {string} sectionId
+     * @param {Object} changes - Seção completa ou parcial (mesclada aos dados atuais)
+     * @returns {Promise<Object|null>} Estatísticas do patch ({ kept, updated, inserted, removed, moved, rebuilt })
+     */
+    async updateSection(sectionId, changes) {
+        const current = this._sections.get(sectionId);
+        const sectionEl = this.container?.querySelector(`:scope > .section-wrapper > section[id="${CSS.escape(sectionId)}"]`);
+
+        // Adiada: a hidratação por proximidade já lerá a versão atualizada do modelo
+        if (sectionEl && this._deferred.has(sectionEl)) return null;
+
+        if (!current || !sectionEl) {
+            await this.renderSection({ id: sectionId, ...changes });
+            return null;
+        }
+
+        const previous = current.section;
+        const section  = { ...previous, ...changes, id: sectionId };
+        if (!this._hasRenderer(section)) return null;
+
+        try {
+            const definition = await this._definition(section.type);
+            const stats = (previous.type === section.type && this._patch(sectionEl, previous, section, definition))
+                || this._rebuild(sectionEl, section, current.number, definition);
+
+            sectionEl.dataset.checksum = sectionChecksum(section, current.number);
+            this._sections.set(sectionId, { section, number: current.number, definition });
+
+            const { touched, ...counts } = stats;
+            this.eventBus.publish('view:section:updated', { sectionId, element: sectionEl, ...counts });
+            return counts;
+
+        } catch (err) {
+            console.error(`ViewManager: erro ao atualizar seção "${sectionId}"`, err);
+            this.eventBus.publish('view:render:error', { sectionId, error: err });
+            return null;
+        }
+    }
+
+    /** Patch por chave (mesmo tipo); null quando a seção precisa ser reconstruída */
+    _patch(sectionEl, previous, section, definition) {
+        const adapter = definition.keyed;
+        if (!adapter) return null;
+        if (windowOptions(previous, definition.windowed) || windowOptions(section, definition.windowed)) return null;
+
+        const stats = patchSection(sectionEl, previous, section, adapter);
+        if (!stats) return null;
+
+        // Só os nós novos/alterados entram no scroll reveal
+        const revealed = sectionEl.classList.contains('visible');
+        stats.touched.forEach(node => {
+            const targets = node.matches('.animate-on-scroll')
+                ? [node, ...node.querySelectorAll('.animate-on-scroll')]
+                : node.querySelectorAll('.animate-on-scroll');
+            targets.forEach(el => this._observer.observe(el));
+            node.querySelectorAll('.skill-progress[data-proficiency]').forEach(bar => {
+                bar.style.width = revealed ? bar.dataset.proficiency + '%' : '0%';
+            });
+        });
+        return { ...stats, rebuilt: false };
+    }
+
+    /** Re-renderiza o corpo inteiro da seção (sem recriar o <section>) */
+    _rebuild(sectionEl, section, number, definition) {
+        sectionEl.className = sectionClassName(section);
+        renderInto(sectionEl, renderSectionBody(section, number, definition));
+        this._activateSection(sectionEl, section, { number, definition });
+        return { kept: 0, updated: 0, inserted: 0, removed: 0, moved: 0, touched: [], rebuilt: true };
+    }
+
+    /* ──────────────────────────────────────────
+       HIDRATAÇÃO + AGENDAMENTO (HTML pré-renderizado no build)
+    ────────────────────────────────────────── */
+    /**
+     * Sincroniza o container com a lista de seções visíveis, adotando os
+     * <section id> já presentes no DOM (prerender) em vez de recriá-los.
+     * Uma seção só é re-renderizada quando o data-checksum diverge dos dados;
+     * as ausentes são criadas e as que não existem mais nos dados são removidas.
+     *
+     * O trabalho é fatiado: primeiro a seção do hash da URL e as seguintes acima
+     * da dobra (cedendo com yieldToMain), depois o restante em períodos ociosos
+     * (whenIdle); conteúdos grandes são anexados em blocos de CHUNK_SIZE itens.
+     * Seções abaixo da dobra cujos dados ainda não foram baixados (só metadados
+     * do índice) ficam adiadas até chegarem a PROXIMITY_MARGIN da viewport.
+     * Cada seção publica 'view:section:timing'.
+     *
+     * @param {Array}  sections - Seções visíveis, já ordenadas
+     * @param {Object} [options]
+     * @param {string} [options.priorityId] - Seção renderizada primeiro (ex.: hash da URL)
+     * @param {Function} [options.loadSection] - id → Promise<seção completa> (seções sem content)
+     * @returns {Promise<{adopted: number, rebuilt: number, created: number, deferred: number, aborted?: boolean}>}
+     */
+    async hydrate(sections, { priorityId = null, loadSection = null } = {}) {
+        const stats = { adopted: 0, rebuilt: 0, created: 0, deferred: 0 };
+        if (!this.container) {
+            console.error('ViewManager: container não disponível');
+            return stats;
+        }
+
+        // Uma nova chamada (ex.: content:loaded) cancela a anterior entre etapas
+        const run = ++this._hydrationRun;
+        this._cancelDeferred();
+        const entries = this._reconcile(sections);
+
+        const priority = entries.findIndex(entry => entry.section.id === priorityId);
+        if (priority > 0) entries.unshift(...entries.splice(priority, 1));
+        entries.forEach((entry, i) => { entry.offscreen = i >= ABOVE_FOLD_SECTIONS; });
+
+        for (let i = 0; i < entries.length; i++) {
+            if (i >= ABOVE_FOLD_SECTIONS && entries[i].section.content === undefined) {
+                this._defer(entries[i], run, loadSection);
+                stats.deferred++;
+                continue;
+            }
+
+            if (i > 0) {
+                await (i < ABOVE_FOLD_SECTIONS ? yieldToMain() : whenIdle());
+            }
+            if (run !== this._hydrationRun) return { ...stats, aborted: true };
+
+            const mode = await this._hydrateEntry(entries[i], run, loadSection);
+            if (mode) stats[mode]++;
+        }
+
+        this.eventBus.publish('view:sections:hydrated', stats);
+        return stats;
+    }
+
+    /**
+     * Etapa síncrona e barata: garante um wrapper por seção, na ordem certa,
+     * e remove as seções que não existem mais. Seções ausentes ganham um
+     * placeholder vazio preenchido depois pelo agendador.
+     */
+    _reconcile(sections) {
+        const existing = new Map();
+        this.container.querySelectorAll(':scope > .section-wrapper > section[id]').forEach(el => {
+            existing.set(el.id, el);
+        });
+
+        const entries = [];
+        let previous = null;
+        sections.forEach((section, idx) => {
+            if (!this._hasRenderer(section)) return;
+
+            let sectionEl = existing.get(section.id);
+            existing.delete(section.id);
+            if (!sectionEl) sectionEl = this._createPlaceholder(section).firstElementChild;
+
+            // Só move o wrapper se estiver fora de ordem
+            const wrapper  = sectionEl.parentElement;
+            const expected = previous ? previous.nextElementSibling : this.container.firstElementChild;
+            if (wrapper !== expected) {
+                this.container.insertBefore(wrapper, expected);
+            }
+            previous = wrapper;
+
+            entries.push({ section, number: idx + 1, sectionEl });
+        });
 
-            // Scroll reveal para seção e itens filhos
-            this._observe(sectionEl);
+        // Seções que não existem mais nos dados
+        existing.forEach(el => {
+            this._unmountWindow(el.id);
+            this._sections.delete(el.id);
+            el.parentElement.remove();
+        });
+
+        return entries;
+    }
+
+    /**
+     * Adota, reconstrói ou cria uma seção, baixando antes os dados e o
+     * renderer se ainda não estiverem carregados.
+     * @returns {Promise<'adopted'|'rebuilt'|'created'|null>}
+     */
+    async _hydrateEntry(entry, run, loadSection) {
+        const { number, sectionEl } = entry;
+        const startedAt = performance.now();
+        let { section } = entry;
+        let mode = 'adopted';
+        let chunks = 0;
+
+        try {
+            if (section.content === undefined) {
+                if (!loadSection) throw new Error('seção sem content e sem loadSection');
+                section = await loadSection(section.id);
+            }
+            const definition = await this._definition(section.type);
+            if (run !== this._hydrationRun) return null;
+
+            const checksum = sectionChecksum(section, number);
+            if (sectionEl.dataset.checksum !== checksum) {
+                mode = 'pending' in sectionEl.dataset ? 'created' : 'rebuilt';
+                sectionEl.className = sectionClassName(section);
 
-            // Anima skill bars quando visíveis (só para seções de skills)
-            if (section.type === 'skills') {
-                sectionEl.querySelectorAll('.skill-progress').forEach(b => (b.style.width = '0%'));
+                // Seção já renderizada pelo cliente: tenta o patch por chave antes
+                const known = this._sections.get(section.id);
+                const patched = mode === 'rebuilt' && known?.number === number &&
+                    known.section.type === section.type &&
+                    this._patch(sectionEl, known.section, section, definition);
+
+                chunks = patched ? 0 : await this._renderBody(sectionEl, section, number, definition, run, entry.offscreen);
+                if (chunks === null) return null;
+
+                sectionEl.dataset.checksum = checksum;
+                delete sectionEl.dataset.pending;
+                if (mode === 'created') sectionEl.classList.add('section--revealed');
             }
 
-            this.eventBus.publish('view:section:rendered', {
+            this._activateSection(sectionEl, section, { number, definition, hydrated: mode === 'adopted' });
+
+            this.eventBus.publish('view:section:timing', {
                 sectionId: section.id,
-                element:   sectionEl,
+                mode,
+                chunks,
+                startedAt,
+                duration: performance.now() - startedAt,
             });
+            return mode;
 
         } catch (err) {
-            console.error(`ViewManager: erro ao renderizar seção "${section.id}"`, err);
+            console.error(`ViewManager: erro ao hidratar seção "${section.id}"`, err);
             this.eventBus.publish('view:render:error', { sectionId: section.id, error: err });
+            return null;
         }
     }
 
+    /**
+     * Renderiza o corpo da seção. Cards/galerias não janelados com mais de
+     * CHUNK_SIZE itens são anexados em blocos, cedendo a thread entre eles;
+     * os demais, abaixo da dobra, têm o HTML gerado no worker quando há um.
+     * @returns {Promise<number|null>} Nº de blocos, ou null se a hidratação foi cancelada
+     */
+    async _renderBody(sectionEl, section, number, definition, run, offscreen = false) {
+        const adapter = definition.windowed;
+        const items   = adapter && !windowOptions(section, adapter) && Array.isArray(section.content)
+            ? adapter.items(section.content)
+            : [];
+
+        if (items.length <= CHUNK_SIZE) {
+            const markup = offscreen ? await this._renderOffThread(section, number) : null;
+            if (run !== this._hydrationRun) return null;
+
+            renderInto(sectionEl, markup !== null ? raw(markup) : renderSectionBody(section, number, definition));
+            return 1;
+        }
+
+        renderInto(sectionEl, renderSectionBody(section, number, definition,
+            adapter.shell(section.content, CHUNK_SIZE)));
+        const grid = sectionEl.querySelector(adapter.gridSelector);
+
+        let chunks = 1;
+        for (let start = CHUNK_SIZE; start < items.length; start += CHUNK_SIZE) {
+            await yieldToMain();
+            if (run !== this._hydrationRun) return null;
+
+            const chunk = items.slice(start, start + CHUNK_SIZE)
+                .map((item, offset) => adapter.renderItem(item, start + offset));
+            grid.appendChild(renderToFragment(chunk));
+            chunks++;
+        }
+        return chunks;
+    }
+
+    /**
+     * HTML do corpo da seção gerado no worker, ou null para renderizar aqui
+     * (worker inativo, falhou ou não respondeu a tempo). O markup sai de
+     * renderToString, que já escapa os dados: pode entrar como raw().
+     * @returns {Promise<string|null>}
+     */
+    async _renderOffThread(section, number) {
+        if (!this.eventBus.hasSubscribers(OFF_THREAD_TOPIC)) return null;
+
+        try {
+            const { html } = await request(this.eventBus, OFF_THREAD_TOPIC, { section, number });
+            return html;
+        } catch (err) {
+            console.warn(`ViewManager: worker não renderizou "${section.id}", renderizando na thread principal`, err);
+            return null;
+        }
+    }
+
+    _hasRenderer(section) {
+        if (typeof this.renderers[section.type] !== 'function') {
+            console.warn(`ViewManager: renderer não encontrado para tipo "${section.type}". ` +
+                `Tipos suportados: ${Object.keys(this.renderers).join(', ')}`);
+            return false;
+        }
+        return true;
+    }
+
+    /** Definição do tipo (render + adaptadores), importada uma única vez */
+    _definition(type) {
+        if (!this._definitions.has(type)) {
+            this._definitions.set(type, this.renderers[type]()
+                .then(module => module.definition)
+                .catch(err => {
+                    // Permite nova tentativa (ex.: chunk que falhou por rede)
+                    this._definitions.delete(type);
+                    throw err;
+                }));
+        }
+        return this._definitions.get(type);
+    }
+
+    /* ──────────────────────────────────────────
+       CARREGAMENTO POR PROXIMIDADE
+    ────────────────────────────────────────── */
+    _defer(entry, run, loadSection) {
+        if (!this._proximity) {
+            this._proximity = new IntersectionObserver((entries) => {
+                entries.forEach(({ isIntersecting, target }) => {
+                    if (!isIntersecting) return;
+                    this._proximity.unobserve(target);
+                    const hydrate = this._deferred.get(target);
+                    this._deferred.delete(target);
+                    hydrate?.();
+                });
+            }, { rootMargin: PROXIMITY_MARGIN });
+        }
+
+        this._deferred.set(entry.sectionEl, () => this._hydrateEntry(entry, run, loadSection));
+        this._proximity.observe(entry.sectionEl);
+    }
+
+    _cancelDeferred() {
+        this._deferred.forEach((_, sectionEl) => this._proximity.unobserve(sectionEl));
+        this._deferred.clear();
+    }
+
+    /** Wrapper + <section> vazio, preenchido depois por _hydrateEntry */
+    _createPlaceholder(section) {
+        const wrapper = document.createElement('div');
+        wrapper.className = 'section-wrapper';
+
+        const sectionEl = document.createElement('section');
+        sectionEl.id        = section.id;
+        sectionEl.className = sectionClassName(section);
+        sectionEl.dataset.pending = '';
+
+        wrapper.appendChild(sectionEl);
+        return wrapper;
+    }
+
+    /** Cria wrapper + <section> (fora do DOM) */
+    _createSection(section, number, definition) {
+        // Wrapper alternado (para fundo zebrado entre seções)
+        const wrapper = document.createElement('div');
+        wrapper.className = 'section-wrapper';
+
+        const sectionEl = document.createElement('section');
+        sectionEl.id        = section.id;
+        sectionEl.className = sectionClassName(section);
+        renderInto(sectionEl, renderSectionBody(section, number, definition));
+        sectionEl.dataset.checksum = sectionChecksum(section, number);
+
+        wrapper.appendChild(sectionEl);
+        return wrapper;
+    }
+
+    /** Liga comportamento (scroll reveal, skill bars) e anuncia a seção */
+    _activateSection(sectionEl, section, { number, definition, hydrated = false } = {}) {
+        this._sections.set(section.id, { section, number, definition });
+
+        // Cards/galerias grandes com metadata.windowed
+        this._mountWindow(sectionEl, section, definition.windowed);
+
+        // Scroll reveal para seção e itens filhos
+        this._observe(sectionEl);
+
+        // Anima skill bars quando visíveis (só para seções de skills)
+        if (section.type === 'skills') {
+            sectionEl.querySelectorAll('.skill-progress').forEach(b => (b.style.width = '0%'));
+        }
+
+        this.eventBus.publish('view:section:rendered', {
+            sectionId: section.id,
+            element:   sectionEl,
+            hydrated,
+        });
+    }
+
     /* ──────────────────────────────────────────
        SCROLL REVEAL (IntersectionObserver)
     ────────────────────────────────────────── */
@@ -127,29 +518,59 @@ class ViewManager {
 
     _observe(sectionEl) {
         this._observer.observe(sectionEl);
-        sectionEl.querySelectorAll('.animate-on-scroll').forEach(el => this._observer.observe(el));
+        sectionEl.querySelectorAll('.animate-on-scroll').forEach(el => {
+            // Itens de grades janeladas entram visíveis e não contam como alvos
+            if (!el.closest('[data-windowed]')) this._observer.observe(el);
+        });
     }
 
     /* ──────────────────────────────────────────
-       UTILS
+       RENDERIZAÇÃO EM JANELA (metadata.windowed)
     ────────────────────────────────────────── */
-    _esc(text) {
-        if (!text) return '';
-        const d = document.createElement('div');
-        d.textContent = text;
-        return d.innerHTML;
+    _mountWindow(sectionEl, section, adapter) {
+        this._unmountWindow(section.id);
+
+        const options = windowOptions(section, adapter);
+        if (!options) return;
+
+        const grid = sectionEl.querySelector(adapter.gridSelector);
+        if (!grid) return;
+
+        const windowedList = new WindowedList({
+            grid,
+            items:      adapter.items(section.content),
+            renderItem: adapter.renderItem,
+            leading:    adapter.leading(section.content),
+            overscan:   options.overscan,
+        });
+        windowedList.mount();
+        this._windows.set(section.id, windowedList);
     }
 
+    _unmountWindow(sectionId) {
+        this._windows.get(sectionId)?.destroy();
+        this._windows.delete(sectionId);
+    }
+
+    /* ──────────────────────────────────────────
+       UTILS
+    ────────────────────────────────────────── */
     /** Alias público mantido para retrocompatibilidade */
-    escapeHtml(text) { return this._esc(text); }
+    escapeHtml(text) { return escapeHtml(text); }
 
     clear() {
         if (this.container) this.container.innerHTML = '';
     }
 
     destroy() {
+        this._hydrationRun++;
         this._observer?.disconnect();
-        this.eventBus.unsubscribe('section:updated', () => {});
+        this._proximity?.disconnect();
+        this._deferred.clear();
+        this._windows.forEach(windowedList => windowedList.destroy());
+        this._windows.clear();
+        this._sections.clear();
+        this.eventBus.unsubscribe('section:updated', this.onSectionUpdated);
         this.clear();
     }
 }
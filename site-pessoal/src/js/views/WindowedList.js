@@ -0,0 +1,202 @@
+/**
+ * @file WindowedList.js
+ * @brief Renderização em janela (virtualizada) de uma grade CSS de itens.
+ * @description Mantém no DOM apenas as linhas próximas da viewport (± overscan).
+ *              Linhas fora da janela viram espaçadores de altura equivalente, e os
+ *              "slots" dos itens que saem são reciclados para os que entram: o item
+ *              novo é aplicado sobre a subárvore do slot via morph() (SectionPatcher.js),
+ *              então cards, <picture> e <img> são reaproveitados e só textos/atributos
+ *              diferentes mudam. Memória, nós e alvos de IntersectionObserver ficam
+ *              limitados ao tamanho da janela, independente de quantos itens a seção tenha.
+ *
+ *              Colunas e gap vêm do CSS computado da grade; a altura de linha é a
+ *              média das linhas já materializadas (estimativa inicial até medir).
+ */
+
+import { renderInto } from './renderers/Template.js';
+import { morph } from './SectionPatcher.js';
+
+const ESTIMATED_ROW_HEIGHT = 280;
+
+export class WindowedList {
+    /**
+     * @param {Object}      config
+     * @param {HTMLElement} config.grid       - Elemento da grade (.cards-grid, .gallery-grid)
+     * @param {Array}       config.items      - Itens janelados
+     * @param {Function}    config.renderItem - (item, idx) → template (renderers/Template.js)
+     * @param {number}      [config.leading=0]  - Filhos iniciais da grade preservados (ex.: destaque)
+     * @param {number}      [config.overscan=2] - Linhas extras acima/abaixo da viewport
+     */
+    constructor(config) {
+        this.grid       = config.grid;
+        this.items      = config.items;
+        this.renderItem = config.renderItem;
+        this.leading    = config.leading || 0;
+        this.overscan   = config.overscan ?? 2;
+
+        this._slots = new Map(); // índice → slot no DOM
+        this._pool  = [];        // slots livres para reciclagem
+        this._range = { start: 0, end: 0 };
+        this._rowHeight = ESTIMATED_ROW_HEIGHT;
+        this._frame = null;
+
+        this._scheduleUpdate = this._scheduleUpdate.bind(this);
+    }
+
+    /**
+     * Substitui os itens renderizados da grade pelos espaçadores + janela inicial.
+     */
+    mount() {
+        // Remove itens do HTML inicial, preservando os "leading"
+        [...this.grid.children].slice(this.leading).forEach(child => child.remove());
+
+        this._topSpacer    = this._createSpacer();
+        this._bottomSpacer = this._createSpacer();
+        this.grid.append(this._topSpacer, this._bottomSpacer);
+        this.grid.dataset.windowed = '';
+
+        window.addEventListener('scroll', this._scheduleUpdate, { passive: true });
+        this._resizeObserver = new ResizeObserver(this._scheduleUpdate);
+        this._resizeObserver.observe(this.grid);
+
+        this.update();
+    }
+
+    /* ──────────────────────────────────────────
+       CÁLCULO DA JANELA
+    ────────────────────────────────────────── */
+    _scheduleUpdate() {
+        if (this._frame !== null) return;
+        this._frame = requestAnimationFrame(() => {
+            this._frame = null;
+            this.update();
+        });
+    }
+
+    _metrics() {
+        const style = getComputedStyle(this.grid);
+        const columns = Math.max(1, style.gridTemplateColumns.split(' ').filter(Boolean).length);
+        const gap = parseFloat(style.rowGap) || 0;
+        return { columns, gap };
+    }
+
+    /** Topo da área janelada: topo da grade + filhos "leading" (espaçador pode estar oculto) */
+    _originTop(gap) {
+        let top = this.grid.getBoundingClientRect().top;
+        for (let i = 0; i < this.leading; i++) {
+            top += this.grid.children[i].getBoundingClientRect().height + gap;
+        }
+        return top;
+    }
+
+    update() {
+        const { columns, gap } = this._metrics();
+        const rowStride = this._rowHeight + gap;
+        const totalRows = Math.ceil(this.items.length / columns);
+
+        const top = this._originTop(gap);
+        const firstRow = Math.floor(Math.max(0, -top) / rowStride) - this.overscan;
+        const lastRow  = Math.ceil((window.innerHeight - top) / rowStride) + this.overscan;
+
+        const startRow = Math.min(Math.max(0, firstRow), totalRows);
+        const endRow   = Math.min(Math.max(startRow, lastRow), totalRows);
+
+        this._render(startRow * columns, Math.min(this.items.length, endRow * columns));
+
+        this._setSpacer(this._topSpacer, startRow, rowStride, gap);
+        this._setSpacer(this._bottomSpacer, totalRows - endRow, rowStride, gap);
+
+        this._measure(columns);
+    }
+
+    /* ──────────────────────────────────────────
+       SLOTS (reciclagem de nós)
+    ────────────────────────────────────────── */
+    _render(start, end) {
+        // Libera slots que saíram da janela
+        this._slots.forEach((slot, idx) => {
+            if (idx >= start && idx < end) return;
+            slot.remove();
+            this._slots.delete(idx);
+            this._pool.push(slot);
+        });
+
+        // Materializa os que entraram, mantendo a ordem no DOM
+        let cursor = this._topSpacer;
+        for (let idx = start; idx < end; idx++) {
+            let slot = this._slots.get(idx);
+            if (!slot) {
+                slot = this._fill(this._pool.pop(), this.renderItem(this.items[idx], idx));
+                // Itens janelados não são observados: já entram visíveis
+                slot.querySelectorAll('.animate-on-scroll').forEach(el => el.classList.add('visible'));
+                this.grid.insertBefore(slot, cursor.nextSibling);
+                this._slots.set(idx, slot);
+            }
+            cursor = slot;
+        }
+
+        // Pool limitado ao tamanho da janela atual
+        this._pool.length = Math.min(this._pool.length, end - start);
+        this._range = { start, end };
+    }
+
+    /**
+     * Renderiza o item num slot: novo se não há slot livre, senão patch da subárvore
+     * existente (o slot reciclado ainda contém o item que saiu da janela).
+     */
+    _fill(pooled, result) {
+        const slot = this._createSlot();
+        renderInto(slot, result);
+        return pooled ? morph(pooled, slot) : slot;
+    }
+
+    /** Média móvel da altura das linhas materializadas */
+    _measure(columns) {
+        const heights = [];
+        this._slots.forEach((slot, idx) => {
+            if (idx % columns !== 0 || !slot.firstElementChild) return;
+            const height = slot.firstElementChild.getBoundingClientRect().height;
+            if (height > 0) heights.push(height);
+        });
+        if (!heights.length) return;
+
+        // Arredondado e com limiar de 1px para não realimentar o ResizeObserver
+        const measured = heights.reduce((a, b) => a + b, 0) / heights.length;
+        const next = Math.round((this._rowHeight + measured) / 2);
+        if (Math.abs(next - this._rowHeight) >= 1) this._rowHeight = next;
+    }
+
+    _createSlot() {
+        const slot = document.createElement('div');
+        slot.className = 'windowed-slot';
+        return slot;
+    }
+
+    _createSpacer() {
+        const spacer = document.createElement('div');
+        spacer.className = 'windowed-spacer';
+        spacer.setAttribute('aria-hidden', 'true');
+        return spacer;
+    }
+
+    /** O espaçador ocupa uma linha da grade: desconta o gap que ele mesmo gera */
+    _setSpacer(spacer, rows, rowStride, gap) {
+        spacer.hidden = rows === 0;
+        spacer.style.height = rows ? `${rows * rowStride - gap}px` : '';
+    }
+
+    /**
+     * @returns {{start: number, end: number, total: number}} Janela atual
+     */
+    getRange() {
+        return { ...this._range, total: this.items.length };
+    }
+
+    destroy() {
+        window.removeEventListener('scroll', this._scheduleUpdate);
+        this._resizeObserver?.disconnect();
+        if (this._frame !== null) cancelAnimationFrame(this._frame);
+        this._slots.clear();
+        this._pool.length = 0;
+    }
+}
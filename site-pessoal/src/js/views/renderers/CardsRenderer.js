@@ -1,19 +1,15 @@
 /**
  * @file CardsRenderer.js
  * @brief Renderiza seções do tipo "cards".
- * @description Módulo puro: recebe array de objetos card, retorna HTML string.
+ * @description Módulo puro: recebe array de objetos card, retorna template (Template.js).
  *              Para adicionar cards: edite o módulo de dados correspondente em sections/.
  *              Para mudar o visual: edite este arquivo + components.css.
  */
 
 import { renderIcon } from './SvgIcons.js';
-
-function esc(text) {
-    if (!text) return '';
-    const d = document.createElement('div');
-    d.textContent = text;
-    return d.innerHTML;
-}
+import { assignKeys, cardKey, asArray, jsonSignature } from './ItemKeys.js';
+import { WINDOW_DEFAULTS } from './Windowing.js';
+import { html } from './Template.js';
 
 /** Mapeia status → CSS class para cor do indicador */
 function statusClass(status) {
@@ -26,55 +22,85 @@ function statusClass(status) {
     return '';
 }
 
+/**
+ * Renderiza um card isolado (também usado pela renderização em janela).
+ * @param {Object} item - Objeto card
+ * @param {number} idx  - Posição, usada no atraso escalonado da animação
+ * @param {string} [key] - Chave estável (data-key)
+ * @returns {TemplateResult}
+ */
+export function renderCard(item, idx, key = cardKey(item)) {
+    const links = item.links?.length ? html`
+        <div class="card-links">
+            ${item.links.map(l => html`
+                 <a href="${l.url}"
+                    target="_blank"
+                    rel="noopener noreferrer"
+                    aria-label="${l.label}">
+                     ${renderIcon('link', 'card-link-icon')}
+                     ${l.label}
+                 </a>
+            `)}
+        </div>
+    ` : '';
+
+    const tags = item.tags?.length ? html`
+        <div class="tags-container" aria-label="Tecnologias">
+            ${item.tags.map(t => html`<span class="tag">${t}</span>`)}
+        </div>
+    ` : '';
+
+    return html`
+        <article class="card animate-on-scroll"
+                 data-key="${key}"
+                 style="transition-delay:${idx * 0.07}s"
+                 aria-label="${item.title}">
+             ${item.highlight
+                 ? html`<div class="card-highlight-badge" aria-label="Destaque">${renderIcon('bookmark', 'card-badge-icon')} ${item.highlight}</div>`
+                 : ''}
+            <h3 class="card-title">${item.title}</h3>
+            <p class="card-description">${item.description}</p>
+            ${links}
+            ${tags}
+            <footer class="card-meta">
+                <span class="card-date">${item.date || ''}</span>
+                <span class="card-status ${statusClass(item.status)}"
+                      aria-label="Status: ${item.status || ''}">
+                    ${item.status || ''}
+                </span>
+            </footer>
+        </article>
+    `;
+}
+
 /**
  * @param {Array} content - Array de objetos card
- * @returns {string} HTML string
+ * @returns {TemplateResult|string}
  */
 export function renderCards(content) {
     if (!Array.isArray(content) || !content.length) return '';
 
-    const cards = content.map((item, idx) => {
-        const linksHtml = item.links?.length ? `
-            <div class="card-links">
-                ${item.links.map(l => `
-                     <a href="${esc(l.url)}"
-                        target="_blank"
-                        rel="noopener noreferrer"
-                        aria-label="${esc(l.label)}">
-                         ${renderIcon('link', 'card-link-icon')}
-                         ${esc(l.label)}
-                     </a>
-                `).join('')}
-            </div>
-        ` : '';
-
-        const tagsHtml = item.tags?.length ? `
-            <div class="tags-container" aria-label="Tecnologias">
-                ${item.tags.map(t => `<span class="tag">${esc(t)}</span>`).join('')}
-            </div>
-        ` : '';
+    const keys = assignKeys(content, cardKey);
+    const cards = content.map((item, idx) => renderCard(item, idx, keys[idx]));
 
-        return `
-            <article class="card animate-on-scroll"
-                     style="transition-delay:${idx * 0.07}s"
-                     aria-label="${esc(item.title)}">
-                 ${item.highlight
-                     ? `<div class="card-highlight-badge" aria-label="Destaque">${renderIcon('bookmark', 'card-badge-icon')} ${esc(item.highlight)}</div>`
-                     : ''}
-                <h3 class="card-title">${esc(item.title)}</h3>
-                <p class="card-description">${esc(item.description)}</p>
-                ${linksHtml}
-                ${tagsHtml}
-                <footer class="card-meta">
-                    <span class="card-date">${esc(item.date || '')}</span>
-                    <span class="card-status ${statusClass(item.status)}"
-                          aria-label="Status: ${esc(item.status || '')}">
-                        ${esc(item.status || '')}
-                    </span>
-                </footer>
-            </article>
-        `;
-    }).join('');
-
-    return `<div class="cards-grid" role="list">${cards}</div>`;
+    return html`<div class="cards-grid" role="list">${cards}</div>`;
 }
+
+/** Tipo "cards" para o registro de renderers (registry.js) */
+export const definition = {
+    render: renderCards,
+    keyed: {
+        container: '.cards-grid',
+        items:     asArray,
+        key:       cardKey,
+        render:    renderCard,
+        signature: jsonSignature,
+    },
+    windowed: {
+        gridSelector: '.cards-grid',
+        leading:      () => 0,
+        items:        content => content,
+        renderItem:   (item, idx) => renderCard(item, idx % WINDOW_DEFAULTS.initialItems),
+        shell:        (content, count) => content.slice(0, count),
+    },
+};
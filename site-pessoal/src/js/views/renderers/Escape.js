@@ -0,0 +1,42 @@
+/**
+ * @file Escape.js
+ * @brief Escape de HTML único do projeto (texto e valores de atributo).
+ * @description Módulo puro, sem DOM: roda no navegador, no prerender (Node) e nos
+ *              benchmarks. Caminho rápido: string sem caractere especial é devolvida
+ *              como está, sem alocar nada. Caso contrário, uma única varredura por
+ *              charCode monta o resultado a partir de fatias da entrada.
+ *
+ *              Medição: bench/escape.bench.js.
+ */
+
+const SPECIAL = /[&<>"']/;
+
+/**
+ * @param {*} value - Convertido com String(); null/undefined viram ''
+ * @returns {string} Texto seguro para conteúdo e atributos entre aspas
+ */
+export function escapeHtml(value) {
+    if (value === null || value === undefined) return '';
+    const str = typeof value === 'string' ? value : String(value);
+
+    const first = str.search(SPECIAL);
+    if (first === -1) return str;
+
+    let out = '';
+    let last = 0;
+    for (let i = first; i < str.length; i++) {
+        let entity;
+        switch (str.charCodeAt(i)) {
+            case 38: entity = '&amp;';  break; // &
+            case 60: entity = '&lt;';   break; // <
+            case 62: entity = '&gt;';   break; // >
+            case 34: entity = '&quot;'; break; // "
+            case 39: entity = '&#39;';  break; // '
+            default: continue;
+        }
+        if (last !== i) out += str.slice(last, i);
+        out += entity;
+        last = i + 1;
+    }
+    return last < str.length ? out + str.slice(last) : out;
+}
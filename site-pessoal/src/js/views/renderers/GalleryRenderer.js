@@ -1,47 +1,50 @@
 /**
  * @file GalleryRenderer.js
  * @brief Renderiza seções do tipo "gallery" (grade de imagens com legenda).
- * @description Módulo puro: recebe array de itens de galeria, retorna HTML string.
+ * @description Módulo puro: recebe array de itens de galeria, retorna template (Template.js).
  *              O primeiro item se torna "destaque" automaticamente se tiver description ou links.
  *              Para adicionar imagens: editar PortfolioData.js.
  *              Para mudar o grid ou hover: editar este arquivo + components.css.
+ *              As imagens saem como <picture> com AVIF/WebP quando há entrada no
+ *              manifesto gerado no build (ver ResponsiveImage.js).
  */
 
-function esc(text) {
-    if (!text) return '';
-    const d = document.createElement('div');
-    d.textContent = text;
-    return d.innerHTML;
-}
+import { renderPicture } from './ResponsiveImage.js';
+import { assignKeys, galleryKey, asArray } from './ItemKeys.js';
+import { html } from './Template.js';
+
+/** sizes coerentes com .gallery-grid / .gallery-featured-image em components.css */
+const GRID_SIZES     = '(max-width: 768px) 50vw, 320px';
+const FEATURED_SIZES = '(max-width: 768px) 100vw, 280px';
 
 /**
  * Renderiza o item em destaque (com descrição e links externos).
  * @param {Object} item
- * @returns {string}
+ * @param {string} [key] - Chave estável (data-key)
+ * @returns {TemplateResult}
  */
-function renderFeatured(item) {
-    return `
-        <div class="gallery-item-featured" role="article">
-            ${item.imageUrl ? `
-                <img src="${esc(item.imageUrl)}"
-                     alt="${esc(item.caption || '')}"
-                     class="gallery-featured-image"
-                     loading="lazy">
-            ` : ''}
+export function renderFeatured(item, key = galleryKey(item)) {
+    return html`
+        <div class="gallery-item-featured" role="article" data-key="${key}">
+            ${item.imageUrl ? renderPicture(item.imageUrl, {
+                alt:       item.caption || '',
+                className: 'gallery-featured-image',
+                sizes:     FEATURED_SIZES,
+            }) : ''}
             <div class="gallery-featured-info">
                 ${item.caption
-                    ? `<div class="gallery-featured-title">${esc(item.caption)}</div>`
+                    ? html`<div class="gallery-featured-title">${item.caption}</div>`
                     : ''}
                 ${item.description
-                    ? `<p class="gallery-featured-desc">${esc(item.description)}</p>`
+                    ? html`<p class="gallery-featured-desc">${item.description}</p>`
                     : ''}
-                ${item.links?.length ? `
+                ${item.links?.length ? html`
                     <div class="gallery-featured-links">
-                        ${item.links.map(l => `
-                            <a href="${esc(l.url)}"
+                        ${item.links.map(l => html`
+                            <a href="${l.url}"
                                target="_blank"
-                               rel="noopener noreferrer">${esc(l.label)}</a>
-                        `).join('')}
+                               rel="noopener noreferrer">${l.label}</a>
+                        `)}
                     </div>
                 ` : ''}
             </div>
@@ -50,42 +53,81 @@ function renderFeatured(item) {
 }
 
 /**
- * Renderiza item padrão da grade.
+ * Renderiza item padrão da grade (também usado pela renderização em janela).
  * @param {Object} item
- * @returns {string}
+ * @param {string} [key] - Chave estável (data-key)
+ * @returns {TemplateResult}
  */
-function renderGridItem(item) {
-    return `
-        <div class="gallery-item" role="listitem">
-            <img src="${esc(item.imageUrl || '')}"
-                 alt="${esc(item.caption || '')}"
-                 class="gallery-image"
-                 loading="lazy">
+export function renderGridItem(item, key = galleryKey(item)) {
+    return html`
+        <div class="gallery-item" role="listitem" data-key="${key}">
+            ${renderPicture(item.imageUrl || '', {
+                alt:       item.caption || '',
+                className: 'gallery-image',
+                sizes:     GRID_SIZES,
+            })}
             ${item.caption
-                ? `<div class="gallery-caption">${esc(item.caption)}</div>`
+                ? html`<div class="gallery-caption">${item.caption}</div>`
                 : ''}
         </div>
     `;
 }
 
+/**
+ * Separa o item em destaque dos itens da grade.
+ * Primeiro item com conteúdo rico → destaque; senão, vai para a grade normal.
+ * @param {Array} content
+ * @returns {{featured: Object|null, gridItems: Array}}
+ */
+export function splitGallery(content) {
+    const [first, ...rest] = content;
+    const hasFeaturedContent = first?.description || first?.links?.length;
+    return hasFeaturedContent
+        ? { featured: first, gridItems: rest }
+        : { featured: null, gridItems: content };
+}
+
 /**
  * @param {Array} content - Array de itens de galeria
- * @returns {string} HTML string
+ * @returns {TemplateResult|string}
  */
 export function renderGallery(content) {
     if (!Array.isArray(content) || !content.length) return '';
 
-    const [first, ...rest] = content;
-
-    // Primeiro item com conteúdo rico → destaque; senão, vai para a grade normal
-    const hasFeaturedContent = first?.description || first?.links?.length;
-    const featuredHtml = hasFeaturedContent ? renderFeatured(first) : '';
-    const gridItems = hasFeaturedContent ? rest : content;
-
-    return `
+    const { featured, gridItems } = splitGallery(content);
+    const keys = assignKeys(content, galleryKey);
+    const gridKeys = featured ? keys.slice(1) : keys;
+    return html`
         <div class="gallery-grid" role="list">
-            ${featuredHtml}
-            ${gridItems.map(renderGridItem).join('')}
+            ${featured ? renderFeatured(featured, keys[0]) : ''}
+            ${gridItems.map((item, idx) => renderGridItem(item, gridKeys[idx]))}
         </div>
     `;
 }
+
+/** O primeiro item muda de forma (destaque × grade) conforme a posição */
+const isFeatured = (idx, items) => idx === 0 && splitGallery(items).featured !== null;
+
+/** Tipo "gallery" para o registro de renderers (registry.js) */
+export const definition = {
+    render: renderGallery,
+    keyed: {
+        container: '.gallery-grid',
+        items:     asArray,
+        key:       galleryKey,
+        render:    (item, idx, key, items) => (isFeatured(idx, items)
+            ? renderFeatured(item, key)
+            : renderGridItem(item, key)),
+        signature: (item, idx, items) => (isFeatured(idx, items) ? 'F' : 'G') + JSON.stringify(item),
+    },
+    windowed: {
+        gridSelector: '.gallery-grid',
+        leading:      content => (splitGallery(content).featured ? 1 : 0),
+        items:        content => splitGallery(content).gridItems,
+        renderItem:   item => renderGridItem(item),
+        shell:        (content, count) => {
+            const { featured, gridItems } = splitGallery(content);
+            return featured ? [featured, ...gridItems.slice(0, count)] : gridItems.slice(0, count);
+        },
+    },
+};
@@ -0,0 +1,42 @@
+/**
+ * @file ItemKeys.js
+ * @brief Chaves estáveis dos itens de cada tipo de seção (atributo data-key).
+ * @description Módulo puro. A chave vem dos dados do item (não da posição), então
+ *              uma atualização de conteúdo consegue casar cada nó do DOM com o seu
+ *              item e aplicar só o delta (ver views/SectionPatcher.js).
+ *              Para mudar o que identifica um item: edite apenas este arquivo.
+ *
+ *              Cada renderer declara em `definition.keyed` como usar essas chaves:
+ *                container: seletor do elemento pai dos itens
+ *                items:     content → array de itens
+ *                key:       item → chave base
+ *                render:    (item, idx, key, items) → template de um item
+ *                signature: (item, idx, items) → string que muda quando o markup do item muda
+ */
+
+export const timelineKey      = item => `${item.period}|${item.title}`;
+export const metricKey        = metric => metric.label;
+export const cardKey          = item => item.title;
+export const skillCategoryKey = cat => cat.category;
+export const galleryKey       = item => item.imageUrl || item.caption;
+
+/** Helpers comuns dos adaptadores `keyed` */
+export const asArray       = content => (Array.isArray(content) ? content : []);
+export const jsonSignature = item => JSON.stringify(item);
+
+/**
+ * Calcula as chaves de uma lista, desambiguando repetições com sufixo "#n".
+ * Renderers e patcher usam esta mesma função, então as chaves sempre coincidem.
+ * @param {Array}    items
+ * @param {Function} keyFn - item → chave base
+ * @returns {string[]} Chave de cada item, na mesma ordem
+ */
+export function assignKeys(items, keyFn) {
+    const seen = new Map();
+    return items.map(item => {
+        const base = String(keyFn(item) ?? '');
+        const count = seen.get(base) || 0;
+        seen.set(base, count + 1);
+        return count ? `${base}#${count}` : base;
+    });
+}
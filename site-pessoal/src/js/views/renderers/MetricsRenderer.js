@@ -1,40 +1,56 @@
 /**
  * @file MetricsRenderer.js
  * @brief Renderiza seções do tipo "metrics" (cards de impacto com números).
- * @description Módulo puro: recebe array de métricas, retorna HTML string.
+ * @description Módulo puro: recebe array de métricas, retorna template (Template.js).
  *              Para adicionar/remover uma métrica: editar só impacto.js.
  *              Para mudar a aparência dos cards: editar só este arquivo.
  */
 
 import { renderIcon } from './SvgIcons.js';
+import { assignKeys, metricKey, asArray, jsonSignature } from './ItemKeys.js';
+import { html } from './Template.js';
 
-function esc(text) {
-    if (!text) return '';
-    const d = document.createElement('div');
-    d.textContent = text;
-    return d.innerHTML;
+/**
+ * Renderiza um card de métrica.
+ * @param {{icon, value, label}} m
+ * @param {number} idx - Posição (atraso escalonado da animação)
+ * @param {string} [key] - Chave estável (data-key)
+ * @returns {TemplateResult}
+ */
+export function renderMetric(m, idx, key = metricKey(m)) {
+    return html`
+        <div class="metric-card animate-on-scroll"
+             data-key="${key}"
+             style="transition-delay:${idx * 0.08}s"
+             role="listitem">
+            <span class="metric-icon" aria-hidden="true">${renderIcon(m.icon, 'metric-fa-icon')}</span>
+            <div class="metric-value">${m.value}</div>
+            <div class="metric-label">${m.label}</div>
+        </div>
+    `;
 }
 
 /**
  * @param {Array<{icon, value, label}>} content
- * @returns {string} HTML string
+ * @returns {TemplateResult|string}
  */
 export function renderMetrics(content) {
     if (!Array.isArray(content) || !content.length) return '';
 
-    const cards = content.map((m, idx) => {
-        const iconHtml = renderIcon(m.icon, 'metric-fa-icon');
+    const keys = assignKeys(content, metricKey);
+    const cards = content.map((m, idx) => renderMetric(m, idx, keys[idx]));
 
-        return `
-            <div class="metric-card animate-on-scroll"
-                 style="transition-delay:${idx * 0.08}s"
-                 role="listitem">
-                <span class="metric-icon" aria-hidden="true">${iconHtml}</span>
-                <div class="metric-value">${esc(m.value)}</div>
-                <div class="metric-label">${esc(m.label)}</div>
-            </div>
-        `;
-    }).join('');
-
-    return `<div class="metrics-grid" role="list" aria-label="Métricas de impacto">${cards}</div>`;
+    return html`<div class="metrics-grid" role="list" aria-label="Métricas de impacto">${cards}</div>`;
 }
+
+/** Tipo "metrics" para o registro de renderers (registry.js) */
+export const definition = {
+    render: renderMetrics,
+    keyed: {
+        container: '.metrics-grid',
+        items:     asArray,
+        key:       metricKey,
+        render:    renderMetric,
+        signature: jsonSignature,
+    },
+};
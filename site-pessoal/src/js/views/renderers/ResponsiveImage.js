@@ -0,0 +1,73 @@
+/**
+ * @file ResponsiveImage.js
+ * @brief Marcação <picture>/srcset a partir do manifesto gerado no build.
+ * @description Módulo puro: recebe a URL original de public/images e devolve template (Template.js).
+ *              O manifesto (virtual:image-manifest) é produzido por plugins/imagePipeline.js
+ *              e registrado uma única vez em main.js via setImageManifest().
+ *              Sem manifesto (dev ou imagem não processada) cai no <img> simples.
+ */
+
+import { html } from './Template.js';
+
+/** Ordem de preferência das variantes: o navegador usa o primeiro <source> suportado */
+const SOURCE_FORMATS = ['avif', 'webp'];
+
+let manifest = {};
+
+/**
+ * Registra o manifesto de variantes responsivas.
+ * @param {Object} imageManifest - URL original → { width, height, avif: [], webp: [] }
+ */
+export function setImageManifest(imageManifest) {
+    manifest = imageManifest || {};
+}
+
+/**
+ * @returns {Object} Manifesto registrado (repassado ao worker de renderização)
+ */
+export function getImageManifest() {
+    return manifest;
+}
+
+/**
+ * @param {string} url - URL original (ex.: './images/nidus.jpg')
+ * @returns {Object|null} Entrada do manifesto ou null
+ */
+export function getImageEntry(url) {
+    return manifest[url] || null;
+}
+
+/**
+ * Renderiza os <source> de uma entrada do manifesto.
+ * Compartilhado com o build (transformIndexHtml, via String()) — não depende do DOM.
+ * @param {Object} entry - Entrada do manifesto
+ * @param {string} sizes - Valor do atributo sizes
+ * @returns {TemplateResult}
+ */
+export function renderSources(entry, sizes) {
+    const sources = SOURCE_FORMATS
+        .filter(format => entry[format]?.length)
+        .map(format => {
+            const srcset = entry[format].map(v => `${v.src} ${v.width}w`).join(', ');
+            return html`<source type="image/${format}" srcset="${srcset}" sizes="${sizes}">`;
+        });
+    return html`${sources}`;
+}
+
+/**
+ * Renderiza uma imagem responsiva.
+ * @param {string} url - URL original da imagem
+ * @param {Object} [options]
+ * @param {string} [options.alt='']
+ * @param {string} [options.className='']
+ * @param {string} [options.sizes='100vw']
+ * @param {string} [options.loading='lazy']
+ * @returns {TemplateResult} <picture> ou <img>
+ */
+export function renderPicture(url, { alt = '', className = '', sizes = '100vw', loading = 'lazy' } = {}) {
+    const entry = getImageEntry(url);
+    const img = html`<img src="${url}" alt="${alt}" class="${className}" width="${entry?.width}" height="${entry?.height}" loading="${loading}" decoding="async">`;
+
+    if (!entry) return img;
+    return html`<picture>${renderSources(entry, sizes)}${img}</picture>`;
+}
@@ -0,0 +1,68 @@
+/**
+ * @file SectionRenderer.js
+ * @brief Moldura comum das seções (wrapper, header numerado, conteúdo).
+ * @description Módulo puro: usado pelo ViewManager no cliente e pelo prerender
+ *              (plugins/prerenderSections.js) no build, garantindo que o HTML
+ *              estático e o gerado em runtime sejam idênticos.
+ */
+
+import { initialContent } from './Windowing.js';
+import { html } from './Template.js';
+
+/**
+ * Checksum (FNV-1a 32 bits) dos dados que determinam o HTML de uma seção.
+ * Gravado em data-checksum: na hidratação, seção com checksum igual é adotada
+ * sem re-renderizar.
+ * @param {Object} section
+ * @param {number} number - Número sequencial (faz parte do HTML)
+ * @returns {string} Hash hexadecimal
+ */
+export function sectionChecksum(section, number) {
+    const input = JSON.stringify([number, section.type, section.title, section.subtitle, section.content]);
+    let hash = 0x811c9dc5;
+    for (let i = 0; i < input.length; i++) {
+        hash ^= input.charCodeAt(i);
+        hash = Math.imul(hash, 0x01000193);
+    }
+    return (hash >>> 0).toString(16).padStart(8, '0');
+}
+
+/**
+ * @param {Object} section
+ * @returns {string} Classes CSS do elemento <section>
+ */
+export function sectionClassName(section) {
+    return `portfolio-section section--${section.type} animate-on-scroll`;
+}
+
+/**
+ * Header + conteúdo da seção (innerHTML do <section>).
+ * Seções em modo janela (Windowing.js) saem só com os itens iniciais.
+ * @param {Object}   section  - Seção de PORTFOLIO_DATA
+ * @param {number}   number   - Número sequencial exibido no label
+ * @param {Object}   definition - Definição do tipo da seção (registry.js)
+ * @param {*}        [content] - Content a renderizar (padrão: initialContent(section))
+ * @returns {TemplateResult}
+ */
+export function renderSectionBody(section, number, definition,
+                                  content = initialContent(section, definition.windowed)) {
+    return html`
+                <header class="section-header">
+                    <div class="section-label">${String(number).padStart(2, '0')}</div>
+                    <h2 class="section-title">${section.title}</h2>
+                    <p class="section-subtitle">${section.subtitle}</p>
+                </header>
+                ${definition.render(content)}
+            `;
+}
+
+/**
+ * Seção completa, incluindo o wrapper zebrado.
+ * @param {Object}   section
+ * @param {number}   number
+ * @param {Object}   definition
+ * @returns {TemplateResult}
+ */
+export function renderSection(section, number, definition) {
+    return html`<div class="section-wrapper"><section id="${section.id}" class="${sectionClassName(section)}" data-checksum="${sectionChecksum(section, number)}">${renderSectionBody(section, number, definition)}</section></div>`;
+}
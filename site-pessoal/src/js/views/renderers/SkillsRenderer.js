@@ -1,71 +1,89 @@
 /**
  * @file SkillsRenderer.js
  * @brief Renderiza seções do tipo "skills" (categorias com barras de progresso).
- * @description Módulo puro: recebe array de categorias, retorna HTML string.
+ * @description Módulo puro: recebe array de categorias, retorna template (Template.js).
  *              As barras de progresso são animadas via IntersectionObserver no ViewManager.
  *              Para adicionar uma skill: editar PortfolioData.js.
  *              Para mudar o visual das barras: editar este arquivo + components.css.
  */
 
-function esc(text) {
-    if (!text) return '';
-    const d = document.createElement('div');
-    d.textContent = text;
-    return d.innerHTML;
-}
+import { assignKeys, skillCategoryKey, asArray, jsonSignature } from './ItemKeys.js';
+import { html } from './Template.js';
 
 /**
- * @param {Array<{category, skills: Array<{name, proficiency, description, links}>}>} content
- * @returns {string} HTML string
+ * Renderiza uma categoria de skills (unidade de atualização por chave).
+ * @param {{category, skills: Array}} cat
+ * @param {number} idx
+ * @param {string} [key] - Chave estável (data-key)
+ * @returns {TemplateResult}
  */
-export function renderSkills(content) {
-    if (!Array.isArray(content) || !content.length) return '';
+export function renderSkillCategory(cat, idx, key = skillCategoryKey(cat)) {
+    const skills = cat.skills.map(skill => {
+        const hasPct = typeof skill.proficiency === 'number';
 
-    const categories = content.map(cat => {
-        const skills = cat.skills.map(skill => {
-            const hasPct = typeof skill.proficiency === 'number';
+        const links = skill.links?.length ? html`
+            <div class="skill-links">
+                ${skill.links.map((l, i) =>
+                    html`${i ? ' · ' : ''}<a href="${l.url}"
+                         target="_blank"
+                         rel="noopener noreferrer">${l.label}</a>`
+                )}
+            </div>
+        ` : '';
 
-            const linksHtml = skill.links?.length ? `
-                <div class="skill-links">
-                    ${skill.links.map(l =>
-                        `<a href="${esc(l.url)}"
-                             target="_blank"
-                             rel="noopener noreferrer">${esc(l.label)}</a>`
-                    ).join(' · ')}
+        return html`
+            <div class="skill-item">
+                <div class="skill-header">
+                    <span class="skill-name">${skill.name}</span>
+                    ${hasPct ? html`<span class="skill-percent">${skill.proficiency}%</span>` : ''}
                 </div>
-            ` : '';
-
-            return `
-                <div class="skill-item">
-                    <div class="skill-header">
-                        <span class="skill-name">${esc(skill.name)}</span>
-                        ${hasPct ? `<span class="skill-percent">${skill.proficiency}%</span>` : ''}
-                    </div>
-                    ${hasPct ? `
-                        <div class="skill-bar" role="progressbar"
-                             aria-valuenow="${skill.proficiency}"
-                             aria-valuemin="0"
-                             aria-valuemax="100"
-                             aria-label="${esc(skill.name)}: ${skill.proficiency}%">
-                            <div class="skill-progress"
-                                 data-proficiency="${skill.proficiency}"
-                                 style="width:0%">
-                            </div>
+                ${hasPct ? html`
+                    <div class="skill-bar" role="progressbar"
+                         aria-valuenow="${skill.proficiency}"
+                         aria-valuemin="0"
+                         aria-valuemax="100"
+                         aria-label="${skill.name}: ${skill.proficiency}%">
+                        <div class="skill-progress"
+                             data-proficiency="${skill.proficiency}"
+                             style="width:0%">
                         </div>
-                    ` : ''}
-                    <p class="skill-description">${esc(skill.description)}</p>
-                    ${linksHtml}
-                </div>
-            `;
-        }).join('');
-
-        return `
-            <div class="skill-category">
-                <h3 class="category-title">${esc(cat.category)}</h3>
-                <div class="skills-list">${skills}</div>
+                    </div>
+                ` : ''}
+                <p class="skill-description">${skill.description}</p>
+                ${links}
             </div>
         `;
-    }).join('');
+    });
 
-    return `<div class="skills-categories">${categories}</div>`;
+    return html`
+        <div class="skill-category" data-key="${key}">
+            <h3 class="category-title">${cat.category}</h3>
+            <div class="skills-list">${skills}</div>
+        </div>
+    `;
 }
+
+/**
+ * @param {Array<{category, skills: Array<{name, proficiency, description, links}>}>} content
+ * @returns {TemplateResult|string}
+ */
+export function renderSkills(content) {
+    if (!Array.isArray(content) || !content.length) return '';
+
+    const keys = assignKeys(content, skillCategoryKey);
+    const categories = content.map((cat, idx) => renderSkillCategory(cat, idx, keys[idx]));
+
+    return html`<div class="skills-categories">${categories}</div>`;
+}
+
+/** Tipo "skills" para o registro de renderers (registry.js); a categoria é a unidade de patch */
+export const definition = {
+    render: renderSkills,
+    keyed: {
+        container: '.skills-categories',
+        items:     asArray,
+        key:       skillCategoryKey,
+        render:    renderSkillCategory,
+        signature: jsonSignature,
+    },
+};
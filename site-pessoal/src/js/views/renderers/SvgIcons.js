@@ -1,13 +1,24 @@
 /**
  * @file SvgIcons.js
- * @brief Registro centralizado de ícones via Font Awesome 6 Free.
- * @description Cada chave mapeia para as classes FA correspondentes.
- *              Uso: renderIcon('rocket') → <i class="fa-solid fa-rocket icon-accent" aria-hidden="true"></i>
+ * @brief Registro centralizado de ícones — sprite SVG gerado a partir do Font Awesome 6 Free.
+ * @description Cada chave mapeia para as classes FA do glifo de origem. No build,
+ *              plugins/iconSprite.js lê ICON_MAP e injeta no index.html um sprite inline
+ *              com um <symbol id="icon-<chave>"> por entrada — só esses glifos, sem a
+ *              folha de estilo nem as webfonts do FA.
+ *              Uso: renderIcon('rocket') → <svg class="icon icon-accent"><use href="#icon-rocket"></use></svg>
  *
  *              Para trocar um ícone: edite apenas o mapeamento abaixo.
- *              A cor segue var(--color-accent) via CSS (.icon-accent).
+ *              A cor segue var(--color-accent) via CSS (.icon-accent, fill: currentColor).
  */
 
+import { html } from './Template.js';
+
+/** Prefixo dos ids dos <symbol> do sprite */
+export const ICON_PREFIX = 'icon-';
+
+/** Chave usada quando a pedida não existe no mapa */
+export const FALLBACK_ICON = 'unknown';
+
 /** @type {Record<string, string>} chave → classes FA */
 export const ICON_MAP = {
     // ── Trajetória (Timeline) ────────────────────────
@@ -46,18 +57,20 @@ export const ICON_MAP = {
     menu:  'fa-solid fa-bars',
     close: 'fa-solid fa-xmark',
     star:  'fa-solid fa-star',
-    plus:  'fa-solid fa-plus'
+    plus:  'fa-solid fa-plus',
+
+    [FALLBACK_ICON]: 'fa-solid fa-circle-question'
 };
 
 /**
- * Renderiza um ícone FA como string HTML.
+ * Renderiza um ícone do sprite.
  * @param {string} key - Chave do ICON_MAP
  * @param {string} [extraClass=''] - Classes CSS adicionais
- * @returns {string} HTML string do elemento <i>
+ * @returns {TemplateResult} Elemento <svg> (String(result) dá o HTML, ex.: para innerHTML)
  */
 export function renderIcon(key, extraClass = '') {
-    const classes = ICON_MAP[key] || 'fa-solid fa-circle-question';
-    return `<i class="${classes} icon-accent${extraClass ? ' ' + extraClass : ''}" aria-hidden="true"></i>`;
+    const id = ICON_PREFIX + (Object.hasOwn(ICON_MAP, key) ? key : FALLBACK_ICON);
+    return html`<svg class="icon icon-accent${extraClass ? ' ' + extraClass : ''}" aria-hidden="true" focusable="false"><use href="#${id}"></use></svg>`;
 }
 
 /**
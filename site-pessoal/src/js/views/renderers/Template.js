@@ -0,0 +1,283 @@
+/**
+ * @file Template.js
+ * @brief Templates compilados: markup parseado uma vez, renderizado por clone.
+ * @description Os renderers escrevem o markup com a tag `html`:
+ *
+ *                html`<h3 class="card-title ${extra}">${item.title}</h3>`
+ *
+ *              O array de partes estáticas é o mesmo objeto a cada chamada do mesmo
+ *              trecho de código, então serve de chave de cache. Na primeira
+ *              renderização ele é compilado num <template> com marcadores no lugar
+ *              dos valores; as seguintes fazem só `cloneNode(true)` e atribuem
+ *              textContent/atributos diretamente — sem reparse de HTML e sem escape
+ *              manual: um valor interpolado nunca vira markup.
+ *
+ *              Valores aceitos em posição de texto:
+ *                string/number → texto · resultado de html`` → aninhado
+ *                array → concatenação · raw(markup) → HTML confiável
+ *                null/undefined/false → nada
+ *              Em atributos (sempre entre aspas): o valor é convertido em string; um
+ *              atributo cujo valor é só o binding é omitido se o valor for
+ *              null/undefined/false.
+ *
+ *              Sem DOM (prerender no Node, benchmarks, workers) o mesmo resultado é
+ *              serializado por renderToString(); `String(result)` faz o mesmo.
+ */
+
+import { escapeHtml } from './Escape.js';
+
+/** Marcador de binding em atributos durante a compilação */
+const ATTR_MARKER = '{{tpl}}';
+
+/** Marcador de binding em texto: vira um comentário no <template> */
+const NODE_MARKER = 'tpl';
+
+/** Resultado de html`` — só guarda as partes; renderizar é decisão do consumidor */
+export class TemplateResult {
+    constructor(strings, values) {
+        this.strings = strings;
+        this.values  = values;
+    }
+
+    toString() {
+        return renderToString(this);
+    }
+}
+
+/** Markup confiável (ex.: gerado no build), inserido sem escape */
+class RawHTML {
+    constructor(markup) {
+        this.markup = String(markup ?? '');
+    }
+
+    toString() {
+        return this.markup;
+    }
+}
+
+/**
+ * Tag de template.
+ * @returns {TemplateResult}
+ */
+export function html(strings, ...values) {
+    return new TemplateResult(strings, values);
+}
+
+/**
+ * Marca markup como confiável. Use só para HTML que não vem de dados de conteúdo.
+ * @param {string} markup
+ * @returns {RawHTML}
+ */
+export function raw(markup) {
+    return new RawHTML(markup);
+}
+
+/* ──────────────────────────────────────────
+   ANÁLISE (sem DOM) — onde cai cada binding
+────────────────────────────────────────── */
+const analyses = new WeakMap();
+
+/**
+ * Classifica cada binding como texto ou atributo percorrendo as partes estáticas.
+ * @returns {Array<{attr: string|null, whole: boolean}>}
+ */
+function analyze(strings) {
+    let bindings = analyses.get(strings);
+    if (bindings) return bindings;
+
+    bindings = [];
+    let state = 'text';   // text | tag | value
+    let quote = '';
+    let name  = '';
+    let valueStart = false;
+
+    strings.forEach((part, idx) => {
+        for (let i = 0; i < part.length; i++) {
+            const ch = part[i];
+            valueStart = false;
+            if (state === 'text') {
+                if (ch === '<' && /[a-zA-Z!/]/.test(part[i + 1] || '')) state = 'tag';
+            } else if (state === 'tag') {
+                if (ch === '>') state = 'text';
+                else if (ch === '"' || ch === "'") {
+                    state = 'value';
+                    quote = ch;
+                    valueStart = true;
+                } else if (/\s/.test(ch)) name = '';
+                else if (ch !== '=') name += ch;
+            } else if (ch === quote) {
+                state = 'tag';
+                name  = '';
+            }
+        }
+
+        if (idx === strings.length - 1) return;
+        if (state === 'tag') {
+            throw new Error('Template: binding fora de valor de atributo não é suportado');
+        }
+        bindings.push(state === 'value'
+            ? { attr: name.toLowerCase(), whole: valueStart && strings[idx + 1][0] === quote }
+            : { attr: null, whole: false });
+    });
+
+    analyses.set(strings, bindings);
+    return bindings;
+}
+
+/* ──────────────────────────────────────────
+   STRING (Node, prerender, workers)
+────────────────────────────────────────── */
+function valueToString(value) {
+    if (value === null || value === undefined || value === false) return '';
+    if (value instanceof TemplateResult) return renderToString(value);
+    if (value instanceof RawHTML) return value.markup;
+    if (Array.isArray(value)) return value.map(valueToString).join('');
+    return escapeHtml(value);
+}
+
+/**
+ * Serializa um valor de template em HTML.
+ * @param {*} value - TemplateResult, array, raw() ou texto
+ * @returns {string}
+ */
+export function renderToString(value) {
+    if (!(value instanceof TemplateResult)) return valueToString(value);
+
+    const { strings, values } = value;
+    const bindings = analyze(strings);
+    let out = strings[0];
+
+    for (let i = 0; i < values.length; i++) {
+        const binding = bindings[i];
+        const v = values[i];
+        let next = strings[i + 1];
+
+        if (!binding.attr) {
+            out += valueToString(v);
+        } else if (binding.whole && (v === null || v === undefined || v === false)) {
+            // Remove ` nome="` já emitido e a aspa de fechamento
+            out = out.slice(0, out.lastIndexOf(' ', out.length - binding.attr.length - 2));
+            next = next.slice(1);
+        } else {
+            out += v === true ? '' : escapeHtml(v);
+        }
+        out += next;
+    }
+    return out;
+}
+
+/* ──────────────────────────────────────────
+   DOM (cliente) — compilação + clone
+────────────────────────────────────────── */
+const compiled = new WeakMap();
+
+/** Markup raw() já parseado; limitado para não crescer sem fim */
+const rawCache = new Map();
+const RAW_CACHE_LIMIT = 256;
+
+/**
+ * Compila as partes estáticas num <template> + lista de partes com caminho
+ * (índices de filhos a partir da raiz), resolvida em cada clone.
+ */
+function compile(strings) {
+    let entry = compiled.get(strings);
+    if (entry) return entry;
+
+    const bindings = analyze(strings);
+    const template = document.createElement('template');
+    template.innerHTML = strings.reduce((markup, part, idx) =>
+        markup + (bindings[idx - 1]?.attr ? ATTR_MARKER : `<!--${NODE_MARKER}-->`) + part);
+
+    const parts = [];
+    let next = 0;
+    const visit = (node, path) => {
+        if (node.nodeType === Node.COMMENT_NODE && node.data === NODE_MARKER) {
+            parts.push({ path, type: 'node', index: next++ });
+            return;
+        }
+        if (node.nodeType === Node.ELEMENT_NODE) {
+            for (const { name, value } of [...node.attributes]) {
+                if (!value.includes(ATTR_MARKER)) continue;
+                const statics = value.split(ATTR_MARKER);
+                parts.push({ path, type: 'attr', name, statics, index: next });
+                next += statics.length - 1;
+            }
+        }
+        node.childNodes.forEach((child, idx) => visit(child, [...path, idx]));
+    };
+    template.content.childNodes.forEach((child, idx) => visit(child, [idx]));
+
+    if (next !== bindings.length) {
+        throw new Error(`Template: ${bindings.length} bindings, ${next} marcadores encontrados ` +
+            '(binding dentro de <textarea>, <style> ou comentário?)');
+    }
+
+    entry = { template, parts };
+    compiled.set(strings, entry);
+    return entry;
+}
+
+function rawFragment(markup) {
+    let template = rawCache.get(markup);
+    if (!template) {
+        if (rawCache.size >= RAW_CACHE_LIMIT) rawCache.clear();
+        template = document.createElement('template');
+        template.innerHTML = markup;
+        rawCache.set(markup, template);
+    }
+    return template.content.cloneNode(true);
+}
+
+function applyAttribute(element, { name, statics, index }, values) {
+    if (statics.length === 2 && !statics[0] && !statics[1]) {
+        const v = values[index];
+        if (v === null || v === undefined || v === false) element.removeAttribute(name);
+        else element.setAttribute(name, v === true ? '' : v);
+        return;
+    }
+
+    let value = statics[0];
+    for (let i = 1; i < statics.length; i++) value += (values[index + i - 1] ?? '') + statics[i];
+    element.setAttribute(name, value);
+}
+
+/**
+ * Materializa um valor de template em nós do DOM.
+ * @param {*} value - TemplateResult, array, raw() ou texto
+ * @returns {DocumentFragment}
+ */
+export function renderToFragment(value) {
+    if (value instanceof TemplateResult) {
+        const { template, parts } = compile(value.strings);
+        const fragment = template.content.cloneNode(true);
+
+        // Resolve todos os alvos antes de mutar (inserções deslocam índices)
+        const targets = parts.map(part =>
+            part.path.reduce((node, idx) => node.childNodes[idx], fragment));
+
+        parts.forEach((part, i) => {
+            if (part.type === 'attr') applyAttribute(targets[i], part, value.values);
+            else targets[i].replaceWith(renderToFragment(value.values[part.index]));
+        });
+        return fragment;
+    }
+
+    if (value instanceof RawHTML) return rawFragment(value.markup);
+
+    const fragment = document.createDocumentFragment();
+    if (Array.isArray(value)) {
+        value.forEach(item => fragment.appendChild(renderToFragment(item)));
+    } else if (value !== null && value !== undefined && value !== false) {
+        fragment.appendChild(document.createTextNode(String(value)));
+    }
+    return fragment;
+}
+
+/**
+ * Substitui o conteúdo de um elemento pelo valor renderizado.
+ * @param {HTMLElement} element
+ * @param {*} value
+ */
+export function renderInto(element, value) {
+    element.replaceChildren(renderToFragment(value));
+}
@@ -1,46 +1,61 @@
 /**
  * @file TimelineRenderer.js
  * @brief Renderiza seções do tipo "timeline".
- * @description Módulo puro: recebe dados, retorna HTML string.
+ * @description Módulo puro: recebe dados, retorna template (Template.js).
  *              Editar a aparência da timeline = editar só este arquivo.
  *              Editar conteúdo = editar trajetoria.js.
  */
 
 import { renderIcon } from './SvgIcons.js';
+import { assignKeys, timelineKey, jsonSignature } from './ItemKeys.js';
+import { html } from './Template.js';
 
-function esc(text) {
-    if (!text) return '';
-    const d = document.createElement('div');
-    d.textContent = text;
-    return d.innerHTML;
+/**
+ * Renderiza um item da timeline.
+ * @param {Object} item
+ * @param {number} idx - Posição (atraso escalonado da animação)
+ * @param {string} [key] - Chave estável (data-key)
+ * @returns {TemplateResult}
+ */
+export function renderTimelineItem(item, idx, key = timelineKey(item)) {
+    return html`
+        <div class="timeline-item animate-on-scroll" data-key="${key}" style="transition-delay:${idx * 0.1}s">
+            <div class="timeline-icon" aria-hidden="true">${renderIcon(item.icon, 'timeline-fa-icon')}</div>
+            <div class="timeline-content">
+                <div class="timeline-period">${item.period}</div>
+                <h3 class="timeline-title">${item.title}</h3>
+                <p class="timeline-description">${item.description}</p>
+                ${item.highlights?.length ? html`
+                    <div class="highlights-list" aria-label="Destaques">
+                        ${item.highlights.map(h => html`<span class="highlight-tag">${h}</span>`)}
+                    </div>
+                ` : ''}
+            </div>
+        </div>
+    `;
 }
 
 /**
  * @param {Object} content - { timeline: Array }
- * @returns {string} HTML string
+ * @returns {TemplateResult}
  */
 export function renderTimeline(content) {
-    if (!content?.timeline?.length) return '<p>Nenhum dado de trajetória.</p>';
+    if (!content?.timeline?.length) return html`<p>Nenhum dado de trajetória.</p>`;
 
-    const items = content.timeline.map((item, idx) => {
-        const iconHtml = renderIcon(item.icon, 'timeline-fa-icon');
+    const keys = assignKeys(content.timeline, timelineKey);
+    const items = content.timeline.map((item, idx) => renderTimelineItem(item, idx, keys[idx]));
 
-        return `
-            <div class="timeline-item animate-on-scroll" style="transition-delay:${idx * 0.1}s">
-                <div class="timeline-icon" aria-hidden="true">${iconHtml}</div>
-                <div class="timeline-content">
-                    <div class="timeline-period">${esc(item.period)}</div>
-                    <h3 class="timeline-title">${esc(item.title)}</h3>
-                    <p class="timeline-description">${esc(item.description)}</p>
-                    ${item.highlights?.length ? `
-                        <div class="highlights-list" aria-label="Destaques">
-                            ${item.highlights.map(h => `<span class="highlight-tag">${esc(h)}</span>`).join('')}
-                        </div>
-                    ` : ''}
-                </div>
-            </div>
-        `;
-    }).join('');
-
-    return `<div class="timeline" role="list">${items}</div>`;
+    return html`<div class="timeline" role="list">${items}</div>`;
 }
+
+/** Tipo "timeline" para o registro de renderers (registry.js) */
+export const definition = {
+    render: renderTimeline,
+    keyed: {
+        container: '.timeline',
+        items:     content => content?.timeline || [],
+        key:       timelineKey,
+        render:    renderTimelineItem,
+        signature: jsonSignature,
+    },
+};
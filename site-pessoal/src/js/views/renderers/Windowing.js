@@ -0,0 +1,50 @@
+/**
+ * @file Windowing.js
+ * @brief Adaptadores da renderização em janela (virtualizada) para "cards" e "gallery".
+ * @description Módulo puro. Uma seção entra em modo janela quando declara
+ *              `metadata.windowed` (true ou { overscan, initialItems, minItems }) e
+ *              tem itens suficientes. Nesse modo o HTML inicial (cliente e prerender)
+ *              contém só os primeiros itens; o restante é materializado sob demanda
+ *              pelo WindowedList (views/WindowedList.js).
+ *
+ *              O adaptador de cada tipo fica em `definition.windowed` no próprio
+ *              renderer (CardsRenderer.js, GalleryRenderer.js):
+ *                gridSelector: seletor da grade
+ *                leading:      content → nº de filhos da grade que não são janelados (ex.: destaque)
+ *                items:        content → itens janelados
+ *                renderItem:   (item, idx) → template de um item
+ *                shell:        (content, count) → content reduzido para o HTML inicial
+ *              Os mesmos adaptadores servem ao ViewManager para anexar em blocos
+ *              o conteúdo de seções grandes não janeladas.
+ */
+
+export const WINDOW_DEFAULTS = {
+    overscan:     2,  // linhas extras acima/abaixo da viewport
+    initialItems: 12, // itens no HTML inicial (múltiplo de 1, 2, 3, 4 e 6 colunas)
+    minItems:     48, // abaixo disso a janela não compensa
+};
+
+/**
+ * @param {Object} section
+ * @param {Object} [adapter] - definition.windowed do tipo da seção
+ * @returns {Object|null} Opções efetivas da janela, ou null se a seção não for janelada
+ */
+export function windowOptions(section, adapter) {
+    const declared = section.metadata?.windowed;
+    if (!adapter || !declared || !Array.isArray(section.content)) return null;
+
+    const options = { ...WINDOW_DEFAULTS, ...(typeof declared === 'object' ? declared : {}) };
+    return adapter.items(section.content).length >= options.minItems ? options : null;
+}
+
+/**
+ * Content usado no HTML inicial da seção.
+ * @param {Object} section
+ * @param {Object} [adapter] - definition.windowed do tipo da seção
+ * @returns {*} section.content, ou a versão reduzida em modo janela
+ */
+export function initialContent(section, adapter) {
+    const options = windowOptions(section, adapter);
+    if (!options) return section.content;
+    return adapter.shell(section.content, options.initialItems);
+}
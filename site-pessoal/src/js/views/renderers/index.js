@@ -1,17 +1,37 @@
 /**
  * @file index.js
- * @brief Barrel de exportações dos renderers.
- * @description Importar daqui para acessar qualquer renderer:
- *              import { renderCards, renderTimeline, renderIcon } from './renderers/index.js';
+ * @brief Barrel de exportações dos renderers (carregamento imediato).
+ * @description Importa todos os tipos de uma vez — para o Node (prerender, benchmarks)
+ *              e código que precise de tudo síncrono. No cliente, o ViewManager usa
+ *              registry.js, que baixa cada renderer sob demanda.
  *
  * Para adicionar um novo tipo de seção:
- *   1. Crie RendererNovo.js nesta pasta
- *   2. Exporte-o aqui
- *   3. Registre no ViewManager.js
+ *   1. Crie RendererNovo.js nesta pasta, exportando `definition`
+ *   2. Registre em RENDERER_LOADERS (registry.js) e em SECTION_DEFINITIONS abaixo
  */
-export { renderTimeline }        from './TimelineRenderer.js';
-export { renderMetrics }         from './MetricsRenderer.js';
-export { renderCards }           from './CardsRenderer.js';
-export { renderSkills }          from './SkillsRenderer.js';
-export { renderGallery }         from './GalleryRenderer.js';
+import { renderTimeline, definition as timeline } from './TimelineRenderer.js';
+import { renderMetrics,  definition as metrics }  from './MetricsRenderer.js';
+import { renderCards,    definition as cards }    from './CardsRenderer.js';
+import { renderSkills,   definition as skills }   from './SkillsRenderer.js';
+import { renderGallery,  definition as gallery }  from './GalleryRenderer.js';
+
+export { renderTimeline, renderMetrics, renderCards, renderSkills, renderGallery };
 export { renderIcon, SVG_ICONS } from './SvgIcons.js';
+export { escapeHtml } from './Escape.js';
+export { html, raw, renderToString, renderToFragment, renderInto } from './Template.js';
+export {
+    renderSection,
+    renderSectionBody,
+    sectionClassName,
+    sectionChecksum,
+} from './SectionRenderer.js';
+export { WINDOW_DEFAULTS, windowOptions, initialContent } from './Windowing.js';
+export { assignKeys } from './ItemKeys.js';
+export { RENDERER_LOADERS } from './registry.js';
+
+/** Definições de todos os tipos: tipo → { render, keyed, windowed? } */
+export const SECTION_DEFINITIONS = { timeline, metrics, cards, skills, gallery };
+
+/** Registro de renderers: tipo → função pura (content) → template (Template.js) */
+export const SECTION_RENDERERS = Object.fromEntries(
+    Object.entries(SECTION_DEFINITIONS).map(([type, definition]) => [type, definition.render]));
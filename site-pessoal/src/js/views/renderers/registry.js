@@ -0,0 +1,23 @@
+/**
+ * @file registry.js
+ * @brief Registro preguiçoso dos tipos de seção: cada renderer vira um chunk próprio.
+ * @description O ViewManager importa só este arquivo; o módulo de um tipo é baixado
+ *              (e guardado em cache pelo ViewManager) na primeira seção daquele tipo
+ *              que precisar ser renderizada/hidratada.
+ *              Cada módulo exporta `definition`:
+ *                render:    (content) → template da seção
+ *                keyed:     adaptador do patch por chave (ItemKeys.js)
+ *                windowed?: adaptador da renderização em janela (Windowing.js)
+ *
+ *              Para adicionar um tipo: crie o renderer com `definition` e registre
+ *              aqui e em SECTION_DEFINITIONS (index.js, usado no Node).
+ */
+
+/** tipo → () => import() do módulo do renderer */
+export const RENDERER_LOADERS = {
+    timeline: () => import('./TimelineRenderer.js'),
+    metrics:  () => import('./MetricsRenderer.js'),
+    cards:    () => import('./CardsRenderer.js'),
+    skills:   () => import('./SkillsRenderer.js'),
+    gallery:  () => import('./GalleryRenderer.js'),
+};
@@ -0,0 +1,51 @@
+/**
+ * @file render-worker.js
+ * @brief Worker de renderização: gera o HTML das seções fora da thread principal.
+ * @description Criado por services/RenderWorker.js. Tem um EventBus próprio ligado ao
+ *              da página por core/WorkerBridge.js: recebe 'worker:render:section'
+ *              ({ section, number }) e responde em 'worker:render:section:done' com o
+ *              markup do corpo da seção. A thread principal só faz o commit no DOM
+ *              (ViewManager._renderBody).
+ *
+ *              Os renderers são módulos puros (conteúdo → template → string via
+ *              renderToString), então rodam aqui sem DOM e produzem o mesmo HTML do
+ *              prerender e do cliente.
+ */
+
+import { EventBus } from '../core/EventBus.js';
+import { bridge, respond } from '../core/WorkerBridge.js';
+import { RENDERER_LOADERS } from '../views/renderers/registry.js';
+import { renderSectionBody } from '../views/renderers/SectionRenderer.js';
+import { renderToString } from '../views/renderers/Template.js';
+import { setImageManifest } from '../views/renderers/ResponsiveImage.js';
+
+const eventBus = new EventBus();
+
+/* ─── Definições dos tipos, importadas uma única vez (como no ViewManager) ─── */
+const definitions = new Map();
+
+function definition(type) {
+    const load = RENDERER_LOADERS[type];
+    if (!load) return Promise.reject(new Error(`renderer não encontrado para tipo "${type}"`));
+
+    if (!definitions.has(type)) {
+        definitions.set(type, load()
+            .then(module => module.definition)
+            .catch(err => {
+                definitions.delete(type);
+                throw err;
+            }));
+    }
+    return definitions.get(type);
+}
+
+/* ─── Tarefas ─── */
+// Variantes AVIF/WebP: o manifesto é registrado em main.js, aqui chega pela ponte
+eventBus.subscribe('worker:render:manifest', setImageManifest);
+
+respond(eventBus, 'worker:render:section', async ({ section, number }) => ({
+    html: renderToString(renderSectionBody(section, number, await definition(section.type))),
+}));
+
+// Só as respostas voltam para a página
+bridge(eventBus, self, { forward: ['worker:**:done'] });
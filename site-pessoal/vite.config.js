@@ -1,4 +1,34 @@
 import { defineConfig } from 'vite';
+import { imagePipeline } from './plugins/imagePipeline.js';
+import { prerenderSections } from './plugins/prerenderSections.js';
+import { sectionIndex } from './plugins/sectionIndex.js';
+import { serviceWorker } from './plugins/serviceWorker.js';
+import { iconSprite } from './plugins/iconSprite.js';
+import { selfHostedFonts } from './plugins/selfHostedFonts.js';
+import { criticalCss } from './plugins/criticalCss.js';
+import { themeStylesheets } from './plugins/themeStylesheets.js';
+import { prepaintBootstrap } from './plugins/prepaintBootstrap.js';
+
+/** Camadas agrupadas em um chunk cada (src/js/<camada>/) */
+const MVC_LAYERS = ['core', 'models', 'controllers', 'views', 'services'];
+
+/** Renderers de tipo: ficam nos chunks dos import() de renderers/registry.js */
+const LAZY_RENDERER = /\/views\/renderers\/(Timeline|Metrics|Cards|Skills|Gallery)Renderer\.js$/;
+
+/**
+ * @brief Assign modules to the mvc-* chunks
+ * @description Section data (data/sections/*, PortfolioData) and type renderers
+ *              return undefined so each keeps its own on-demand chunk.
+ */
+function manualChunks(id) {
+    const file = id.split('\\').join('/');
+    if (!file.includes('/src/js/') || LAZY_RENDERER.test(file)) return;
+
+    if (file.endsWith('/src/js/data/UserData.js')) return 'mvc-data';
+
+    const layer = MVC_LAYERS.find(name => file.includes(`/src/js/${name}/`));
+    if (layer) return `mvc-${layer}`;
+}
 
 /**
  * @brief Vite configuration for MVC framework
@@ -8,6 +38,17 @@ export default defineConfig({
     base: '/site/', // repository name
     root: '.',
     publicDir: 'public',
+    plugins: [
+        imagePipeline(),
+        iconSprite(),
+        selfHostedFonts(),
+        themeStylesheets(),
+        prepaintBootstrap(),
+        sectionIndex(),
+        prerenderSections(),
+        criticalCss(),
+        serviceWorker()
+    ],
     build: {
         outDir: 'dist',
         assetsDir: 'public/images',
@@ -17,43 +58,23 @@ export default defineConfig({
                 main: './index.html'
             },
             output: {
-                manualChunks: {
-                    'mvc-data': [
-                        './src/js/data/PortfolioData.js',
-                        './src/js/data/UserData.js'
-                    ],
-                    'mvc-core': [
-                        './src/js/core/App.js',
-                        './src/js/core/EventBus.js',
-                        './src/js/core/Router.js'
-                    ],
-                    'mvc-models': [
-                        './src/js/models/ContentModel.js',
-                        './src/js/models/UserModel.js'
-                    ],
-                    'mvc-controllers': [
-                        './src/js/controllers/MainController.js',
-                        './src/js/controllers/NavigationController.js'
-                    ],
-                    'mvc-views': [
-                        './src/js/views/BaseView.js',
-                        './src/js/views/FooterView.js',
-                        './src/js/views/NavigationView.js',
-                        './src/js/views/ViewManager.js'
-                    ],
-                    'mvc-services': [
-                        './src/js/services/AccessibilityManager.js',
-                        './src/js/services/ErrorReporter.js',
-                        './src/js/services/PerformanceMonitor.js',
-                        './src/js/services/ThemeManager.js'
-                    ]
-                },
+                manualChunks,
                 chunkFileNames: 'public/images/js/[name]-[hash].js',
                 entryFileNames: 'public/images/js/[name]-[hash].js',
                 assetFileNames: 'public/images/[ext]/[name]-[hash].[ext]'
             }
         }
     },
+    worker: {
+        // Module worker: render-worker.js loads each renderer with import() (registry.js)
+        format: 'es',
+        rollupOptions: {
+            output: {
+                chunkFileNames: 'public/images/js/[name]-[hash].js',
+                entryFileNames: 'public/images/js/[name]-[hash].js'
+            }
+        }
+    },
     server: {
         port: 3000,
         open: true,